@@ -0,0 +1,144 @@
+package me.blvckbytes.bblibpersistence;
+
+import lombok.Getter;
+import me.blvckbytes.bblibpersistence.exceptions.PersistenceException;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.UUID;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/17/2026
+
+  Holds the values of selected properties column by column, each within an array
+  of it's primitive type, where the value of a row is found at the row's index.
+  Null values are reported separately and read as the type's default value.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class ColumnarResult {
+
+  // Number of rows within every column
+  @Getter
+  private final int size;
+
+  // Value arrays mapped by the name of their property
+  private final Map<String, Object> columns;
+
+  // Indices of null values, mapped by the name of their property
+  private final Map<String, BitSet> nulls;
+
+  public ColumnarResult(int size, Map<String, Object> columns, Map<String, BitSet> nulls) {
+    this.size = size;
+    this.columns = columns;
+    this.nulls = nulls;
+  }
+
+  /**
+   * Get the values of an INTEGER property
+   * @param property Name of the property
+   */
+  public int[] getInts(String property) {
+    return getColumn(property, int[].class);
+  }
+
+  /**
+   * Get the values of a LONG property
+   * @param property Name of the property
+   */
+  public long[] getLongs(String property) {
+    return getColumn(property, long[].class);
+  }
+
+  /**
+   * Get the values of a DATETIME property as milliseconds since the epoch
+   * @param property Name of the property
+   */
+  public long[] getTimestamps(String property) {
+    return getColumn(property, long[].class);
+  }
+
+  /**
+   * Get the values of a DOUBLE property
+   * @param property Name of the property
+   */
+  public double[] getDoubles(String property) {
+    return getColumn(property, double[].class);
+  }
+
+  /**
+   * Get the values of a FLOAT property
+   * @param property Name of the property
+   */
+  public float[] getFloats(String property) {
+    return getColumn(property, float[].class);
+  }
+
+  /**
+   * Get the values of a BOOLEAN property
+   * @param property Name of the property
+   */
+  public boolean[] getBooleans(String property) {
+    return getColumn(property, boolean[].class);
+  }
+
+  /**
+   * Get the values of a UUID property
+   * @param property Name of the property
+   */
+  public UUID[] getUuids(String property) {
+    return getColumn(property, UUID[].class);
+  }
+
+  /**
+   * Get the values of a TEXT or VARCHAR property
+   * @param property Name of the property
+   */
+  public String[] getStrings(String property) {
+    return getColumn(property, String[].class);
+  }
+
+  /**
+   * Check whether a property's value is null within a given row
+   * @param property Name of the property
+   * @param row Index of the row
+   */
+  public boolean isNull(String property, int row) {
+    BitSet propertyNulls = nulls.get(property);
+
+    if (propertyNulls == null)
+      throw new PersistenceException("The property " + property + " has not been selected");
+
+    return propertyNulls.get(row);
+  }
+
+  /**
+   * Get the value array of a property
+   * @param property Name of the property
+   * @param type Expected type of the array
+   * @return Value array
+   */
+  private <A> A getColumn(String property, Class<A> type) {
+    Object column = columns.get(property);
+
+    if (column == null)
+      throw new PersistenceException("The property " + property + " has not been selected");
+
+    if (!type.isInstance(column))
+      throw new PersistenceException("The property " + property + " is held as " + column.getClass().getSimpleName() + ", not as " + type.getSimpleName());
+
+    return type.cast(column);
+  }
+}
@@ -0,0 +1,38 @@
+package me.blvckbytes.bblibpersistence;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/17/2026
+
+  Progress of a chunked bulk deletion, reported after every chunk on the
+  thread which runs the deletion.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@Getter
+@AllArgsConstructor
+public class DeleteProgress {
+
+  // Number of ids which have been processed so far
+  private final int processed;
+
+  // Total number of ids to process
+  private final int total;
+
+  // Number of rows which have been deleted so far
+  private final int deleted;
+}
@@ -0,0 +1,242 @@
+package me.blvckbytes.bblibpersistence;
+
+import me.blvckbytes.bblibpersistence.models.APersistentModel;
+import me.blvckbytes.bblibpersistence.query.FieldUpdate;
+import me.blvckbytes.bblibpersistence.query.Page;
+import me.blvckbytes.bblibpersistence.query.QueryBuilder;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/17/2026
+
+  Represents the non-blocking counterpart of {@link IPersistence}, where every
+  operation runs on a dedicated executor and completes a future. Futures are
+  completed on that executor, use {@link #onMainThread} to hop back.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public interface IAsyncPersistence {
+
+  /**
+   * Store a model persistently
+   * @param model Model to store
+   */
+  <T extends APersistentModel> CompletableFuture<Void> store(T model);
+
+  /**
+   * Store a batch of models persistently
+   * @param models Batch of models
+   */
+  <T extends APersistentModel> CompletableFuture<Void> store(List<T> models);
+
+  /**
+   * Write all stores which are still buffered when write-behind is enabled
+   */
+  CompletableFuture<Void> flush();
+
+  /**
+   * Insert a model or update the row which already holds it's unique properties (or it's id)
+   * @param model Model to upsert
+   * @return Whether the row has been inserted or updated
+   */
+  <T extends APersistentModel> CompletableFuture<UpsertResult> upsert(T model);
+
+  /**
+   * Upsert a batch of models within a single transaction
+   * @param models Batch of models
+   * @return Results, in the order of the provided models
+   */
+  <T extends APersistentModel> CompletableFuture<List<UpsertResult>> batchUpsert(List<T> models);
+
+  /**
+   * List all available models of a certain type
+   * @param type Type of model to list
+   * @return List of all available records
+   */
+  <T extends APersistentModel> CompletableFuture<List<T>> list(Class<T> type);
+
+  /**
+   * Find multiple models of a certain type by their ids at once
+   * @param type Type of model to find
+   * @param ids IDs of the models
+   * @return Found models mapped by their id, in the order of the provided ids, missing ids are left out
+   */
+  <T extends APersistentModel> CompletableFuture<Map<UUID, T>> findByIds(Class<T> type, Collection<UUID> ids);
+
+  /**
+   * Delete a previously created model
+   * @param model Model to delete
+   */
+  <T extends APersistentModel> CompletableFuture<Boolean> delete(T model);
+
+  /**
+   * Delete multiple previously created models
+   * @param models Models to delete
+   */
+  <T extends APersistentModel> CompletableFuture<Integer> delete(List<T> models);
+
+  /**
+   * Delete models by a query
+   * @param query Query that specifies what to delete
+   */
+  <T extends APersistentModel> CompletableFuture<Integer> delete(QueryBuilder<T> query);
+
+  /**
+   * Atomically update fields of all models that match a query within a single statement
+   * @param query Query that specifies what to update, where sorting and limits are ignored
+   * @param updates Updates mapped by the name of the field they apply to
+   * @return Number of affected rows
+   */
+  <T extends APersistentModel> CompletableFuture<Integer> update(QueryBuilder<T> query, Map<String, FieldUpdate> updates);
+
+  /**
+   * Delete a previously created model by it's id
+   * @param id ID of the model
+   */
+  <T extends APersistentModel> CompletableFuture<Boolean> delete(Class<T> type, UUID id);
+
+  /**
+   * Delete previously created models by their ids
+   * @param type Type of the models
+   * @param ids IDs of the models
+   * @return Number of deleted models
+   */
+  <T extends APersistentModel> CompletableFuture<Integer> delete(Class<T> type, Collection<UUID> ids);
+
+  /**
+   * Delete previously created models by their ids in chunks
+   * @param type Type of the models
+   * @param ids IDs of the models
+   * @param progress Invoked on one of the executor's threads after every chunk, not on the
+   *                 calling thread, use {@link #getMainThreadExecutor} to hop back, optional
+   * @return Number of deleted models
+   */
+  <T extends APersistentModel> CompletableFuture<Integer> delete(Class<T> type, Collection<UUID> ids, @Nullable Consumer<DeleteProgress> progress);
+
+  /**
+   * Find all models that match the specified query
+   * @param query Query to execute
+   * @return List of models
+   */
+  <T extends APersistentModel> CompletableFuture<List<T>> find(QueryBuilder<T> query);
+
+  /**
+   * Find a page of models by seeking from the query's anchor
+   * @param query Query to execute, which should be limited to the page size
+   * @return Page of models with tokens to continue from
+   */
+  <T extends APersistentModel> CompletableFuture<Page<T>> findPage(QueryBuilder<T> query);
+
+  /**
+   * Count all models that match the specified query
+   * @param query Query to execute
+   */
+  <T extends APersistentModel> CompletableFuture<Integer> count(QueryBuilder<T> query);
+
+  /**
+   * Count all models of a specific type
+   * @param type Type of model to count
+   */
+  <T extends APersistentModel> CompletableFuture<Integer> count(Class<T> type);
+
+  /**
+   * Check whether any model matches the specified query without fetching it
+   * @param query Query to execute, where sorting is ignored
+   * @return True if there's at least one match
+   */
+  <T extends APersistentModel> CompletableFuture<Boolean> exists(QueryBuilder<T> query);
+
+  /**
+   * Find the first model that matches the specified query
+   * @param query Query to execute
+   * @return First model, empty if there were no matches
+   */
+  <T extends APersistentModel> CompletableFuture<Optional<T>> findFirst(QueryBuilder<T> query);
+
+  /**
+   * Get a set of properties for all models that match
+   * the specified query in their raw, unwrapped form
+   * @param query Query to execute
+   * @param properties Properties to receive within the map
+   * @return List of properties
+   */
+  <T extends APersistentModel> CompletableFuture<List<Map<String, Object>>> findRaw(QueryBuilder<T> query, String... properties);
+
+  /**
+   * Get a set of properties for all models that are available
+   * @param type Type of model to list
+   * @param properties Properties to receive within the map
+   * @return List of properties for all available items
+   */
+  <T extends APersistentModel> CompletableFuture<List<Map<String, Object>>> listRaw(Class<T> type, String... properties);
+
+  /**
+   * Get a set of properties for all models that match the specified query column by column,
+   * where each property's values are held within an array of it's primitive type
+   * @param query Query to execute
+   * @param properties Properties to select
+   * @return Columnar result, keyed by the selected properties
+   */
+  <T extends APersistentModel> CompletableFuture<ColumnarResult> findColumnar(QueryBuilder<T> query, String... properties);
+
+  /**
+   * Get a set of properties for all models that are available column by column,
+   * where each property's values are held within an array of it's primitive type
+   * @param type Type of model to list
+   * @param properties Properties to select
+   * @return Columnar result, keyed by the selected properties
+   */
+  <T extends APersistentModel> CompletableFuture<ColumnarResult> listColumnar(Class<T> type, String... properties);
+
+  /**
+   * Find all models that match the specified query and project them into a lightweight class,
+   * whose fields are matched with the model's properties by name
+   * @param query Query to execute
+   * @param projection Class to project into
+   * @return List of projections
+   */
+  <T extends APersistentModel, P> CompletableFuture<List<P>> findProjected(QueryBuilder<T> query, Class<P> projection);
+
+  /**
+   * Visit a set of properties for all models that match the specified query in their raw,
+   * unwrapped form, through a single view which is moved along from row to row
+   * @param query Query to execute
+   * @param visitor Visitor of each row's view, invoked on the executor
+   * @param properties Properties to select, addressed by their index within the view
+   * @return Number of visited rows
+   */
+  <T extends APersistentModel> CompletableFuture<Integer> visitRaw(QueryBuilder<T> query, Consumer<IRowView> visitor, String... properties);
+
+  /**
+   * Get an executor which runs it's tasks on the server's main thread
+   */
+  Executor getMainThreadExecutor();
+
+  /**
+   * Mirror a future's outcome into a new future which is completed on the server's main thread
+   * @param future Future to mirror
+   * @return Future completing on the main thread
+   */
+  <R> CompletableFuture<R> onMainThread(CompletableFuture<R> future);
+}
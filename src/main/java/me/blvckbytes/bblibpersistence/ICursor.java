@@ -0,0 +1,46 @@
+package me.blvckbytes.bblibpersistence;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/17/2026
+
+  Represents a lazily mapped sequence of models which are fetched from the
+  database in chunks. A cursor holds on to it's resources until it's either
+  exhausted or closed, so it should always be used within try-with-resources.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public interface ICursor<T> extends Iterator<T>, AutoCloseable {
+
+  /**
+   * Release all resources held by this cursor, closing multiple times is a no-op
+   */
+  @Override
+  void close();
+
+  /**
+   * Get a sequential stream of the remaining models, which closes this cursor when it's closed
+   */
+  default Stream<T> stream() {
+    return StreamSupport
+      .stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+      .onClose(this::close);
+  }
+}
@@ -0,0 +1,31 @@
+package me.blvckbytes.bblibpersistence;
+
+import java.util.UUID;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/17/2026
+
+  Generates the ids of newly inserted models. Implementations have to be
+  thread-safe and should never hand out the same id twice.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public interface IIdGenerator {
+
+  /**
+   * Generate a new, unique id
+   */
+  UUID generate();
+}
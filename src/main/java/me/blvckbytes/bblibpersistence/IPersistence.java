@@ -2,14 +2,18 @@ package me.blvckbytes.bblibpersistence;
 
 import me.blvckbytes.bblibpersistence.exceptions.PersistenceException;
 import me.blvckbytes.bblibpersistence.models.APersistentModel;
+import me.blvckbytes.bblibpersistence.query.FieldUpdate;
+import me.blvckbytes.bblibpersistence.query.Page;
 import me.blvckbytes.bblibpersistence.query.QueryBuilder;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
@@ -38,6 +42,18 @@ public interface IPersistence {
    */
   <T extends APersistentModel> void store(T model) throws PersistenceException;
 
+  /**
+   * Store a batch of models persistently (blocking)
+   * @param models Batch of models
+   */
+  <T extends APersistentModel> void store(List<T> models) throws PersistenceException;
+
+  /**
+   * Write all stores which are still buffered when write-behind is enabled (blocking),
+   * as reads only ever see what has already been written
+   */
+  void flush() throws PersistenceException;
+
   /**
    * Store a batch of models persistently (asynchronous)
    * @param models Batch of models
@@ -45,6 +61,22 @@ public interface IPersistence {
    */
   <T extends APersistentModel> void batchStore(List<T> models, Consumer<@Nullable PersistenceException> error);
 
+  /**
+   * Insert a model or update the row which already holds it's unique properties (or it's id)
+   * within a single statement. The model's id and creation timestamp are taken from the
+   * existing row when updating.
+   * @param model Model to upsert
+   * @return Whether the row has been inserted or updated
+   */
+  <T extends APersistentModel> UpsertResult upsert(T model) throws PersistenceException;
+
+  /**
+   * Upsert a batch of models within a single transaction
+   * @param models Batch of models
+   * @return Results, in the order of the provided models
+   */
+  <T extends APersistentModel> List<UpsertResult> batchUpsert(List<T> models) throws PersistenceException;
+
   /**
    * List all available models of a certain type
    * @param type Type of model to list
@@ -52,6 +84,14 @@ public interface IPersistence {
    */
    <T extends APersistentModel> List<T> list(Class<T> type) throws PersistenceException;
 
+  /**
+   * Find multiple models of a certain type by their ids at once
+   * @param type Type of model to find
+   * @param ids IDs of the models
+   * @return Found models mapped by their id, in the order of the provided ids, missing ids are left out
+   */
+  <T extends APersistentModel> Map<UUID, T> findByIds(Class<T> type, Collection<UUID> ids) throws PersistenceException;
+
   /**
    * Delete a previously created model
    * @param model Model to delete
@@ -70,12 +110,41 @@ public interface IPersistence {
    */
   <T extends APersistentModel> int delete(QueryBuilder<T> query) throws PersistenceException;
 
+  /**
+   * Atomically update fields of all models that match a query within a single
+   * statement, without reading them first, like UPDATE ... SET x = x + ?
+   * @param query Query that specifies what to update, where sorting and limits are ignored
+   * @param updates Updates mapped by the name of the field they apply to, where transformed
+   *                fields (like an OfflinePlayer) can be assigned as a whole
+   * @return Number of affected rows
+   */
+  <T extends APersistentModel> int update(QueryBuilder<T> query, Map<String, FieldUpdate> updates) throws PersistenceException;
+
   /**
    * Delete a previously created model by it's id
    * @param id ID of the model
    */
   <T extends APersistentModel>boolean delete(Class<T> type, UUID id) throws PersistenceException;
 
+  /**
+   * Delete previously created models by their ids
+   * @param type Type of the models
+   * @param ids IDs of the models
+   * @return Number of deleted models
+   */
+  <T extends APersistentModel> int delete(Class<T> type, Collection<UUID> ids) throws PersistenceException;
+
+  /**
+   * Delete previously created models by their ids in chunks, where a few chunks at a time
+   * are committed together, followed by a short pause to keep lock times low
+   * @param type Type of the models
+   * @param ids IDs of the models
+   * @param progress Invoked after every chunk on the thread which runs the deletion, so the
+   *                 executor's thread when called through {@link IAsyncPersistence}, optional
+   * @return Number of deleted models
+   */
+  <T extends APersistentModel> int delete(Class<T> type, Collection<UUID> ids, @Nullable Consumer<DeleteProgress> progress) throws PersistenceException;
+
   /**
    * Find all models that match the specified query
    * @param query Query to execute
@@ -83,6 +152,43 @@ public interface IPersistence {
    */
   <T extends APersistentModel> List<T> find(QueryBuilder<T> query) throws PersistenceException;
 
+  /**
+   * Find a page of models by seeking from the query's anchor (see {@link QueryBuilder#after})
+   * instead of skipping rows, so that deep pages cost as much as the first one
+   * @param query Query to execute, which should be limited to the page size
+   * @return Page of models with tokens to continue from
+   */
+  <T extends APersistentModel> Page<T> findPage(QueryBuilder<T> query) throws PersistenceException;
+
+  /**
+   * Iterate all available models of a certain type without loading them into memory at once
+   * @param type Type of model to iterate
+   * @return Cursor over all available records, which has to be closed
+   */
+  <T extends APersistentModel> ICursor<T> iterate(Class<T> type) throws PersistenceException;
+
+  /**
+   * Iterate all models that match the specified query without loading them into memory at once
+   * @param query Query to execute
+   * @return Cursor over all matching models, which has to be closed
+   */
+  <T extends APersistentModel> ICursor<T> iterate(QueryBuilder<T> query) throws PersistenceException;
+
+  /**
+   * Iterate all models that match the specified query without loading them into memory at once
+   * @param query Query to execute
+   * @param fetchSize Number of rows to fetch from the database at once
+   * @return Cursor over all matching models, which has to be closed
+   */
+  <T extends APersistentModel> ICursor<T> iterate(QueryBuilder<T> query, int fetchSize) throws PersistenceException;
+
+  /**
+   * Stream all models that match the specified query without loading them into memory at once
+   * @param query Query to execute
+   * @return Stream of all matching models, which has to be closed
+   */
+  <T extends APersistentModel> Stream<T> stream(QueryBuilder<T> query) throws PersistenceException;
+
   /**
    * Count all models that match the specified query
    * @param query Query to execute
@@ -95,6 +201,13 @@ public interface IPersistence {
    */
   <T extends APersistentModel> int count(Class<T> type) throws PersistenceException;
 
+  /**
+   * Check whether any model matches the specified query without fetching it
+   * @param query Query to execute, where sorting is ignored
+   * @return True if there's at least one match
+   */
+  <T extends APersistentModel> boolean exists(QueryBuilder<T> query) throws PersistenceException;
+
   /**
    * Find the first model that matches the specified query
    * @param query Query to execute
@@ -118,4 +231,42 @@ public interface IPersistence {
    * @return List of properties for all available items
    */
   <T extends APersistentModel> List<Map<String, Object>> listRaw(Class<T> type, String... properties);
+
+  /**
+   * Get a set of properties for all models that match the specified query column by column,
+   * where each property's values are held within an array of it's primitive type
+   * @param query Query to execute
+   * @param properties Properties to select
+   * @return Columnar result, keyed by the selected properties
+   */
+  <T extends APersistentModel> ColumnarResult findColumnar(QueryBuilder<T> query, String... properties) throws PersistenceException;
+
+  /**
+   * Get a set of properties for all models that are available column by column,
+   * where each property's values are held within an array of it's primitive type
+   * @param type Type of model to list
+   * @param properties Properties to select
+   * @return Columnar result, keyed by the selected properties
+   */
+  <T extends APersistentModel> ColumnarResult listColumnar(Class<T> type, String... properties) throws PersistenceException;
+
+  /**
+   * Find all models that match the specified query and project them into a lightweight class,
+   * whose fields are matched with the model's properties by name. Transformed fields are
+   * projected in their foreign type. The class has to provide an empty constructor.
+   * @param query Query to execute
+   * @param projection Class to project into
+   * @return List of projections
+   */
+  <T extends APersistentModel, P> List<P> findProjected(QueryBuilder<T> query, Class<P> projection) throws PersistenceException;
+
+  /**
+   * Visit a set of properties for all models that match the specified query in their raw,
+   * unwrapped form, through a single view which is moved along from row to row
+   * @param query Query to execute
+   * @param visitor Visitor of each row's view
+   * @param properties Properties to select, addressed by their index within the view
+   * @return Number of visited rows
+   */
+  <T extends APersistentModel> int visitRaw(QueryBuilder<T> query, Consumer<IRowView> visitor, String... properties) throws PersistenceException;
 }
@@ -0,0 +1,49 @@
+package me.blvckbytes.bblibpersistence;
+
+import org.jetbrains.annotations.Nullable;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/17/2026
+
+  Represents a read-only view onto the current row of a result, which is reused
+  for every row and addresses the selected properties by their index. A view is
+  only valid within the callback it has been handed to.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public interface IRowView {
+
+  /**
+   * Get the number of selected properties
+   */
+  int getWidth();
+
+  /**
+   * Get the value of a property within the current row
+   * @param index Index of the property, in the order they have been requested
+   * @return Value of the property in it's raw form
+   */
+  @Nullable Object get(int index);
+
+  /**
+   * Get the value of a property within the current row as a certain type
+   * @param index Index of the property, in the order they have been requested
+   * @param type Type of the value
+   * @return Value of the property in it's raw form
+   */
+  default <V> @Nullable V get(int index, Class<V> type) {
+    return type.cast(get(index));
+  }
+}
@@ -0,0 +1,38 @@
+package me.blvckbytes.bblibpersistence;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/17/2026
+
+  Declares a secondary index on a model's table. On a field, the index spans
+  that field's column(s), followed by the listed properties. On a model class,
+  the index spans the listed properties only. Properties are named the way
+  queries name them, so inlined columns are addressed like holder__uuid.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@Target({ ElementType.FIELD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Repeatable(Indexes.class)
+public @interface Index {
+
+  // Properties spanned by this index (in order), after the annotated field's own column(s)
+  String[] value() default {};
+}
@@ -0,0 +1,71 @@
+package me.blvckbytes.bblibpersistence;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/17/2026
+
+  Generates time-ordered (version 7) ids, which lead with a 48 bit unix
+  millisecond timestamp, followed by a 12 bit counter and 62 random bits.
+  Their binary representation sorts by creation time, so inserts append
+  to the right edge of the primary key index instead of splitting pages.
+
+  Ids stay strictly increasing within a process: the counter orders ids of
+  the same millisecond and borrows the next millisecond when it overflows,
+  which also shields against the clock stepping backwards.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class TimeOrderedIdGenerator implements IIdGenerator {
+
+  private static final int COUNTER_BITS = 12;
+  private static final int MAX_COUNTER = (1 << COUNTER_BITS) - 1;
+
+  private long lastMillis = -1;
+  private int counter;
+
+  @Override
+  public UUID generate() {
+    long millis, sequence;
+
+    synchronized (this) {
+      long now = System.currentTimeMillis();
+
+      // New millisecond, start off at a random counter in the lower half to leave room for increments
+      if (now > lastMillis) {
+        lastMillis = now;
+        counter = ThreadLocalRandom.current().nextInt(MAX_COUNTER / 2);
+      }
+
+      // Same (or a past) millisecond, count up and borrow the next millisecond on overflow
+      else if (++counter > MAX_COUNTER) {
+        lastMillis++;
+        counter = 0;
+      }
+
+      millis = lastMillis;
+      sequence = counter;
+    }
+
+    // unix_ts_ms (48) | version (4) | counter (12)
+    long msb = (millis << 16) | (0x7L << 12) | sequence;
+
+    // variant (2) | random (62)
+    long lsb = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+
+    return new UUID(msb, lsb);
+  }
+}
@@ -1,8 +1,10 @@
 package me.blvckbytes.bblibpersistence.models;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import me.blvckbytes.bblibpersistence.ModelProperty;
 import org.bukkit.OfflinePlayer;
+import org.jetbrains.annotations.Nullable;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
@@ -42,6 +44,30 @@ public abstract class APersistentModel {
   @ModelProperty(isInlineable = false, isNullable = true)
   protected Date updatedAt;
 
+  // Column values as of the last time this model has been read or written, which are
+  // compared against on the next write. Held by the instance itself, so that tracking
+  // follows the instance's identity, regardless of how equality has been defined.
+  @Getter(AccessLevel.NONE)
+  private transient volatile Object[] snapshot;
+
+  /**
+   * Get the column values as of the last time this model has been read or written,
+   * only to be used by the persistence implementation
+   * @return Column values, indexed by their column, null if there are none
+   */
+  public @Nullable Object[] getPersistenceSnapshot() {
+    return snapshot;
+  }
+
+  /**
+   * Set the column values as of the last time this model has been read or written,
+   * only to be used by the persistence implementation
+   * @param snapshot Column values, indexed by their column, null to drop them
+   */
+  public void setPersistenceSnapshot(@Nullable Object[] snapshot) {
+    this.snapshot = snapshot;
+  }
+
   /**
    * Get the createdAt timestamp as a human readable string
    */
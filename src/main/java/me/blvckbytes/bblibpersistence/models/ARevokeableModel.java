@@ -1,6 +1,7 @@
 package me.blvckbytes.bblibpersistence.models;
 
 import lombok.*;
+import me.blvckbytes.bblibpersistence.Index;
 import me.blvckbytes.bblibpersistence.ModelProperty;
 import org.bukkit.OfflinePlayer;
 import org.jetbrains.annotations.Nullable;
@@ -39,6 +40,7 @@ public abstract class ARevokeableModel extends APersistentModel {
 
   // The date of revocation, null means that the model hasn't yet been revoked
   @ModelProperty(isNullable = true)
+  @Index
   protected Date revokedAt;
 
   // The reason of revocation, null means that the model hasn't yet been revoked
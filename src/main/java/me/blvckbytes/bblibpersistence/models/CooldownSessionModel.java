@@ -2,6 +2,7 @@ package me.blvckbytes.bblibpersistence.models;
 
 import lombok.*;
 import me.blvckbytes.bblibpersistence.IPersistence;
+import me.blvckbytes.bblibpersistence.Index;
 import me.blvckbytes.bblibpersistence.ModelProperty;
 import me.blvckbytes.bblibpersistence.exceptions.PersistenceException;
 import me.blvckbytes.bblibpersistence.query.EqualityOperation;
@@ -43,7 +44,9 @@ public class CooldownSessionModel extends APersistentModel {
     this(holder, new Date(System.currentTimeMillis() + durationSeconds * 1000L), token);
   }
 
+  // Cooldowns are always looked up by their holder and token
   @ModelProperty
+  @Index("token")
   private OfflinePlayer holder;
 
   @ModelProperty
@@ -0,0 +1,155 @@
+package me.blvckbytes.bblibpersistence.mysql;
+
+import lombok.Getter;
+
+import java.lang.reflect.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.BitSet;
+import java.util.UUID;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/17/2026
+
+  A growable array of a column's values, which reads them straight from a result
+  set into the primitive type of the column, without boxing them on the way.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class ColumnBuffer {
+
+  private static final int INITIAL_CAPACITY = 256;
+
+  private final MysqlType type;
+
+  // Indices of null values
+  @Getter
+  private final BitSet nulls;
+
+  // Array of the column's type, which is filled up to the size
+  private Object values;
+  private int size, capacity;
+
+  public ColumnBuffer(MysqlType type) {
+    this.type = type;
+    this.nulls = new BitSet();
+    this.capacity = INITIAL_CAPACITY;
+    this.values = Array.newInstance(componentTypeOf(type), capacity);
+  }
+
+  /**
+   * Append the column's value of the current row
+   * @param rs ResultSet containing the row to read from
+   * @param ordinal Ordinal of the column
+   */
+  public void read(ResultSet rs, int ordinal) throws SQLException {
+    if (size == capacity)
+      resize(capacity * 2);
+
+    switch (type) {
+      case INTEGER:
+        ((int[]) values)[size] = rs.getInt(ordinal);
+        break;
+
+      case LONG:
+        ((long[]) values)[size] = rs.getLong(ordinal);
+        break;
+
+      case DOUBLE:
+        ((double[]) values)[size] = rs.getDouble(ordinal);
+        break;
+
+      case FLOAT:
+        ((float[]) values)[size] = rs.getFloat(ordinal);
+        break;
+
+      case BOOLEAN:
+        ((boolean[]) values)[size] = rs.getBoolean(ordinal);
+        break;
+
+      case UUID:
+        ((UUID[]) values)[size] = UuidCodec.fromBytes(rs.getBytes(ordinal));
+        break;
+
+      // Dates are held as milliseconds since the epoch
+      case DATETIME:
+        Timestamp ts = rs.getTimestamp(ordinal);
+        ((long[]) values)[size] = ts == null ? 0 : ts.getTime();
+        break;
+
+      default:
+        ((String[]) values)[size] = rs.getString(ordinal);
+        break;
+    }
+
+    if (rs.wasNull())
+      nulls.set(size);
+
+    size++;
+  }
+
+  /**
+   * Get the values read so far within an array of their exact size
+   */
+  public Object toArray() {
+    if (size != capacity)
+      resize(size);
+
+    return values;
+  }
+
+  /**
+   * Move the values into an array of another capacity
+   * @param capacity New capacity, at least the size
+   */
+  private void resize(int capacity) {
+    Object resized = Array.newInstance(values.getClass().getComponentType(), capacity);
+    System.arraycopy(values, 0, resized, 0, size);
+
+    this.values = resized;
+    this.capacity = capacity;
+  }
+
+  /**
+   * Get the array component type which holds values of a column type
+   * @param type Type of the column
+   */
+  private static Class<?> componentTypeOf(MysqlType type) {
+    switch (type) {
+      case INTEGER:
+        return int.class;
+
+      case LONG:
+      case DATETIME:
+        return long.class;
+
+      case DOUBLE:
+        return double.class;
+
+      case FLOAT:
+        return float.class;
+
+      case BOOLEAN:
+        return boolean.class;
+
+      case UUID:
+        return UUID.class;
+
+      default:
+        return String.class;
+    }
+  }
+}
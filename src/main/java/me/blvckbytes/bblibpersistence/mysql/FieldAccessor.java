@@ -0,0 +1,81 @@
+package me.blvckbytes.bblibpersistence.mysql;
+
+import lombok.Getter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/17/2026
+
+  Reads and writes a field through method handles which are resolved once, as
+  opposed to reflective field access, which re-checks access on every call.
+  Primitive values are boxed and unboxed transparently.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class FieldAccessor {
+
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+  @Getter
+  private final Field field;
+
+  private final MethodHandle getter, setter;
+
+  public FieldAccessor(Field field) throws IllegalAccessException {
+    this.field = field;
+
+    // Makes private and final (non-static) fields accessible to the lookup
+    field.setAccessible(true);
+
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    this.getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+    this.setter = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+  }
+
+  /**
+   * Read the field's value
+   * @param target Object to read from
+   * @return Value of the field, boxed for primitives
+   */
+  public Object get(Object target) {
+    try {
+      return (Object) getter.invokeExact(target);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new IllegalStateException(t);
+    }
+  }
+
+  /**
+   * Write the field's value
+   * @param target Object to write to
+   * @param value Value to write, unboxed for primitives
+   */
+  public void set(Object target, Object value) {
+    try {
+      setter.invokeExact(target, value);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new IllegalStateException(t);
+    }
+  }
+}
@@ -6,6 +6,7 @@ package me.blvckbytes.bblibpersistence.mysql;
 
   Implementations of this interface supply the persistence module with
   all required credentials in order to establish a database connection.
+  Tuning parameters may be overridden as well, see {@link IMysqlTuningSupplier}.
 
   This program is free software: you can redistribute it and/or modify
   it under the terms of the GNU Affero General Public License as published
@@ -20,7 +21,7 @@ package me.blvckbytes.bblibpersistence.mysql;
   You should have received a copy of the GNU Affero General Public License
   along with this program.  If not, see <https://www.gnu.org/licenses/>.
 */
-public interface IMysqlCredentialSupplier {
+public interface IMysqlCredentialSupplier extends IMysqlTuningSupplier {
 
   /**
    * Username to use for authentication
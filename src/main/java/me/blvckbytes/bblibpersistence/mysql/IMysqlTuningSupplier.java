@@ -0,0 +1,178 @@
+package me.blvckbytes.bblibpersistence.mysql;
+
+import me.blvckbytes.bblibpersistence.IIdGenerator;
+import me.blvckbytes.bblibpersistence.TimeOrderedIdGenerator;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/17/2026
+
+  Implementations of this interface supply the persistence module with
+  tuning parameters, all of which come with a sensible default value.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public interface IMysqlTuningSupplier {
+
+  /**
+   * Number of connections the pool always keeps open
+   */
+  default int getMinPoolSize() {
+    return 2;
+  }
+
+  /**
+   * Maximum number of connections the pool will open at once
+   */
+  default int getMaxPoolSize() {
+    return 10;
+  }
+
+  /**
+   * Milliseconds after which an unused connection above the
+   * minimum pool size will be closed
+   */
+  default long getPoolIdleTimeoutMs() {
+    return 10 * 60 * 1000;
+  }
+
+  /**
+   * Milliseconds to wait for a free connection before giving up
+   */
+  default long getPoolBorrowTimeoutMs() {
+    return 30 * 1000;
+  }
+
+  /**
+   * Maximum number of operations the asynchronous API runs at once,
+   * defaults to the maximum pool size, as more would only wait for connections
+   */
+  default int getAsyncThreads() {
+    return getMaxPoolSize();
+  }
+
+  /**
+   * Maximum number of operations the asynchronous API queues up while all of it's threads
+   * are busy, where further operations are rejected by failing their future right away
+   */
+  default int getAsyncQueueCapacity() {
+    return 1000;
+  }
+
+  /**
+   * Maximum number of statements every connection keeps prepared
+   */
+  default int getStatementCacheSize() {
+    return 128;
+  }
+
+  /**
+   * Maximum number of generated query SQL texts to remember by query shape
+   */
+  default int getQueryCacheSize() {
+    return 512;
+  }
+
+  /**
+   * Number of rows after which a write batch is sent to the server, which
+   * caps the memory used by and the packet size of large batch stores
+   */
+  default int getWriteBatchSize() {
+    return 500;
+  }
+
+  /**
+   * Maximum number of rows a single multi-row insert statement contains, rounded down to a
+   * power of two, where statements are split up earlier if they would exceed the server's packet size
+   */
+  default int getInsertRowsPerStatement() {
+    return 128;
+  }
+
+  /**
+   * Number of rows a cursor fetches from the server at once
+   */
+  default int getCursorFetchSize() {
+    return 500;
+  }
+
+  /**
+   * Maximum number of ids a single lookup statement of a batch fetch by ids binds
+   */
+  default int getIdLookupChunkSize() {
+    return 500;
+  }
+
+  /**
+   * Maximum number of values bound by a single IN list of a query, where
+   * larger collections are split into multiple lists
+   */
+  default int getInListChunkSize() {
+    return 500;
+  }
+
+  /**
+   * Number of ids a single statement of a bulk deletion binds
+   */
+  default int getDeleteChunkSize() {
+    return 500;
+  }
+
+  /**
+   * Number of chunks of a bulk deletion which are committed together,
+   * which bounds the time that row locks are held for
+   */
+  default int getDeleteChunksPerTransaction() {
+    return 4;
+  }
+
+  /**
+   * Milliseconds to pause between two transactions of a bulk deletion,
+   * giving other writers and replicas a chance to catch up
+   */
+  default long getDeletePauseMs() {
+    return 10;
+  }
+
+  /**
+   * Generator of the ids of newly inserted models, which defaults to time-ordered
+   * ids, as random ids scatter inserts across the whole primary key index
+   */
+  default IIdGenerator getIdGenerator() {
+    return new TimeOrderedIdGenerator();
+  }
+
+  /**
+   * Whether stores are buffered and written in batches on a background thread,
+   * where repeated stores of the same model collapse into a single write
+   */
+  default boolean isWriteBehindEnabled() {
+    return false;
+  }
+
+  /**
+   * Milliseconds between two flushes of the write-behind buffer
+   */
+  default long getWriteBehindFlushIntervalMs() {
+    return 1000;
+  }
+
+  /**
+   * Number of buffered models at which the write-behind buffer
+   * is flushed right away instead of waiting for the interval
+   */
+  default int getWriteBehindMaxPending() {
+    return 500;
+  }
+}
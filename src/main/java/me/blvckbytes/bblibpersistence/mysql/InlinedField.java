@@ -0,0 +1,43 @@
+package me.blvckbytes.bblibpersistence.mysql;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import me.blvckbytes.bblibpersistence.transformers.IDataTransformer;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/17/2026
+
+  Layout of a transformed model field, which is stored as multiple inlined
+  columns of it's known model, grouped ahead of time to materialize rows in
+  a single pass.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@Getter
+@AllArgsConstructor
+public class InlinedField {
+
+  // Accessor of the foreign field within the model
+  private final FieldAccessor accessor;
+
+  // Transformer which revives the known model into the foreign value
+  private final IDataTransformer<?, ?> transformer;
+
+  // Plan of the transformer's known model
+  private final ModelPlan knownPlan;
+
+  // Indices of the inlined columns within the model's table
+  private final int[] columnIndices;
+}
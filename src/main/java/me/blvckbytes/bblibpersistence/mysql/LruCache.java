@@ -0,0 +1,56 @@
+package me.blvckbytes.bblibpersistence.mysql;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/17/2026
+
+  A size bounded map which evicts it's least recently accessed entry
+  as soon as the capacity is exceeded. Not thread-safe on it's own.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class LruCache<K, V> extends LinkedHashMap<K, V> {
+
+  private final int capacity;
+
+  // Invoked with every value that got evicted
+  @Nullable private final Consumer<V> evicted;
+
+  public LruCache(int capacity, @Nullable Consumer<V> evicted) {
+    super(16, .75F, true);
+    this.capacity = Math.max(1, capacity);
+    this.evicted = evicted;
+  }
+
+  public LruCache(int capacity) {
+    this(capacity, null);
+  }
+
+  @Override
+  protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+    if (size() <= capacity)
+      return false;
+
+    if (evicted != null)
+      evicted.accept(eldest.getValue());
+
+    return true;
+  }
+}
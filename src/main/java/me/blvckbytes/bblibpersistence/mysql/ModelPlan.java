@@ -0,0 +1,211 @@
+package me.blvckbytes.bblibpersistence.mysql;
+
+import lombok.Getter;
+import me.blvckbytes.bblibpersistence.RowNumber;
+import me.blvckbytes.bblibpersistence.exceptions.PersistenceException;
+import me.blvckbytes.bblibpersistence.models.APersistentModel;
+import me.blvckbytes.bblibpersistence.transformers.IDataTransformer;
+import me.blvckbytes.bblibutil.Tuple;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/17/2026
+
+  Metadata of a model which is resolved once when it's table is parsed, so that
+  reading and writing rows only has to walk arrays and look up maps instead of
+  scanning columns and fields by reflection over and over again.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@Getter
+public class ModelPlan {
+
+  private final Class<? extends APersistentModel> model;
+
+  // Handle of the model's empty constructor, null if there is none
+  @Nullable private final MethodHandle constructor;
+
+  // Columns in the order they're selected in, so a column's
+  // ordinal within a full selection is it's index plus one
+  private final MysqlColumn[] columns;
+
+  // Index of a column by it's column name
+  private final Map<String, Integer> indexByColumnName;
+
+  // Column by the name of it's model property
+  private final Map<String, MysqlColumn> columnByPropertyName;
+
+  // Row number receivers, mapping their partition column to the receiving field,
+  // selected in this order right after the columns
+  private final List<Tuple<MysqlColumn, FieldAccessor>> rowNumberReceivers;
+
+  // Transformer of each column, null for non-transformed columns
+  private final IDataTransformer<?, ?>[] transformers;
+
+  // Indices of all columns which are not inlined by a transformer
+  private final int[] plainColumns;
+
+  // Enum type of each column's field, null for non-enum fields
+  private final Class<?>[] enumTypes;
+
+  // Transformed fields, each grouping their inlined columns
+  private final List<InlinedField> inlinedFields;
+
+  // Indices of the reserved columns, -1 if not present
+  private final int primaryKeyIndex, createdAtIndex, updatedAtIndex;
+
+  // Comma separated list of all column names, in the order of their indices
+  private final String selectList;
+
+  public ModelPlan(
+    Class<? extends APersistentModel> model,
+    List<MysqlColumn> columns,
+    String[] propertyNames,
+    List<FieldAccessor> rowNumberFields,
+    IDataTransformer<?, ?>[] transformers,
+    List<InlinedField> inlinedFields
+  ) throws IllegalAccessException {
+    this.model = model;
+    this.constructor = findConstructor(model);
+    this.columns = columns.toArray(new MysqlColumn[0]);
+    this.transformers = transformers;
+    this.inlinedFields = inlinedFields;
+    this.enumTypes = new Class<?>[this.columns.length];
+    this.indexByColumnName = new HashMap<>();
+    this.columnByPropertyName = new HashMap<>();
+
+    int primaryKeyIndex = -1, createdAtIndex = -1, updatedAtIndex = -1;
+    StringJoiner selectList = new StringJoiner(", ");
+    List<Integer> plainColumns = new ArrayList<>();
+
+    for (int i = 0; i < this.columns.length; i++) {
+      MysqlColumn column = this.columns[i];
+
+      if (transformers[i] == null)
+        plainColumns.add(i);
+
+      if (column.getModelField().getType().isEnum())
+        enumTypes[i] = column.getModelField().getType();
+
+      indexByColumnName.put(column.getName(), i);
+      columnByPropertyName.put(propertyNames[i], column);
+      selectList.add("`" + column.getName() + "`");
+
+      if (column.isPrimaryKey())
+        primaryKeyIndex = i;
+      else if (column.getName().equals("created_at"))
+        createdAtIndex = i;
+      else if (column.getName().equals("updated_at"))
+        updatedAtIndex = i;
+    }
+
+    this.primaryKeyIndex = primaryKeyIndex;
+    this.createdAtIndex = createdAtIndex;
+    this.updatedAtIndex = updatedAtIndex;
+    this.selectList = selectList.toString();
+    this.plainColumns = plainColumns.stream().mapToInt(Integer::intValue).toArray();
+
+    this.rowNumberReceivers = new ArrayList<>();
+    for (FieldAccessor receiver : rowNumberFields) {
+      String partition = receiver.getField().getAnnotation(RowNumber.class).partitionedBy();
+      MysqlColumn column = columnByPropertyName.get(partition);
+
+      if (column == null)
+        throw new PersistenceException("The row number partition " + partition + " is not a member of the model " + model.getSimpleName());
+
+      rowNumberReceivers.add(new Tuple<>(column, receiver));
+    }
+  }
+
+  /**
+   * Create a new empty instance of the model by invoking it's hidden empty constructor
+   * @return Instantiated model
+   */
+  public APersistentModel instantiate() {
+    if (constructor == null)
+      throw new PersistenceException("Model " + model + " provides no empty constructor");
+
+    try {
+      return (APersistentModel) constructor.invokeExact();
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new IllegalStateException(t);
+    }
+  }
+
+  /**
+   * Get the index of a column by it's name
+   * @param columnName Name of the column
+   * @return Index of the column, null if there's no such column
+   */
+  public @Nullable Integer getIndex(String columnName) {
+    return indexByColumnName.get(columnName);
+  }
+
+  /**
+   * Get the length of a model's snapshot, which holds the value of each column at it's
+   * index, followed by the transformer's snapshot of each transformed field
+   */
+  public int getSnapshotLength() {
+    return columns.length + inlinedFields.size();
+  }
+
+  /**
+   * Get the index of a transformed field's foreign snapshot within a model's snapshot
+   * @param inlinedIndex Index of the field within {@link #inlinedFields}
+   * @return Index within the snapshot
+   */
+  public int getForeignSnapshotIndex(int inlinedIndex) {
+    return columns.length + inlinedIndex;
+  }
+
+  /**
+   * Get the ordinal of a row number receiver within a full selection
+   * @param receiverIndex Index of the receiver within {@link #rowNumberReceivers}
+   * @return Ordinal of the row number's column
+   */
+  public int getRowNumberOrdinal(int receiverIndex) {
+    return columns.length + receiverIndex + 1;
+  }
+
+  /**
+   * Resolve a handle of a model's empty constructor
+   * @param model Model to resolve
+   * @return Constructor handle, null if the model provides no empty constructor
+   */
+  private static @Nullable MethodHandle findConstructor(Class<? extends APersistentModel> model) throws IllegalAccessException {
+    if (Modifier.isAbstract(model.getModifiers()))
+      return null;
+
+    Constructor<?> ctor;
+    try {
+      ctor = model.getDeclaredConstructor();
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+
+    ctor.setAccessible(true);
+    return MethodHandles.lookup().unreflectConstructor(ctor)
+      .asType(MethodType.methodType(APersistentModel.class));
+  }
+}
@@ -0,0 +1,310 @@
+package me.blvckbytes.bblibpersistence.mysql;
+
+import me.blvckbytes.bblibdi.AutoConstruct;
+import me.blvckbytes.bblibdi.AutoInject;
+import me.blvckbytes.bblibdi.IAutoConstructed;
+import me.blvckbytes.bblibpersistence.ColumnarResult;
+import me.blvckbytes.bblibpersistence.DeleteProgress;
+import me.blvckbytes.bblibpersistence.IAsyncPersistence;
+import me.blvckbytes.bblibpersistence.IPersistence;
+import me.blvckbytes.bblibpersistence.IRowView;
+import me.blvckbytes.bblibpersistence.UpsertResult;
+import me.blvckbytes.bblibpersistence.exceptions.PersistenceException;
+import me.blvckbytes.bblibpersistence.models.APersistentModel;
+import me.blvckbytes.bblibpersistence.query.FieldUpdate;
+import me.blvckbytes.bblibpersistence.query.Page;
+import me.blvckbytes.bblibpersistence.query.QueryBuilder;
+import me.blvckbytes.bblibutil.APlugin;
+import me.blvckbytes.bblibutil.logger.ILogger;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/17/2026
+
+  Runs the blocking persistence API on a bounded executor, which uses
+  virtual threads if the runtime supports them, and hands out futures.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@AutoConstruct
+public class MysqlAsyncPersistence implements IAsyncPersistence, IAutoConstructed {
+
+  // Seconds to wait for queued operations to finish when shutting down
+  private static final int SHUTDOWN_TIMEOUT_S = 10;
+
+  private final IPersistence persistence;
+  private final APlugin plugin;
+  private final ILogger logger;
+  private final ThreadPoolExecutor executor;
+
+  public MysqlAsyncPersistence(
+    @AutoInject IPersistence persistence,
+    @AutoInject APlugin plugin,
+    @AutoInject ILogger logger,
+    @AutoInject IMysqlCredentialSupplier credentials
+  ) {
+    this.persistence = persistence;
+    this.plugin = plugin;
+    this.logger = logger;
+
+    int threads = Math.max(1, credentials.getAsyncThreads());
+    this.executor = new ThreadPoolExecutor(
+      threads, threads,
+      60, TimeUnit.SECONDS,
+      new LinkedBlockingQueue<>(Math.max(1, credentials.getAsyncQueueCapacity())),
+      makeThreadFactory(),
+      new ThreadPoolExecutor.AbortPolicy()
+    );
+
+    // Don't keep idle threads around when there's nothing to do
+    this.executor.allowCoreThreadTimeOut(true);
+  }
+
+  //=========================================================================//
+  //                                  API                                    //
+  //=========================================================================//
+
+  @Override
+  public <T extends APersistentModel> CompletableFuture<Void> store(T model) {
+    return run(() -> {
+      persistence.store(model);
+      return null;
+    });
+  }
+
+  @Override
+  public <T extends APersistentModel> CompletableFuture<Void> store(List<T> models) {
+    return run(() -> {
+      persistence.store(models);
+      return null;
+    });
+  }
+
+  @Override
+  public CompletableFuture<Void> flush() {
+    return run(() -> {
+      persistence.flush();
+      return null;
+    });
+  }
+
+  @Override
+  public <T extends APersistentModel> CompletableFuture<UpsertResult> upsert(T model) {
+    return run(() -> persistence.upsert(model));
+  }
+
+  @Override
+  public <T extends APersistentModel> CompletableFuture<List<UpsertResult>> batchUpsert(List<T> models) {
+    return run(() -> persistence.batchUpsert(models));
+  }
+
+  @Override
+  public <T extends APersistentModel> CompletableFuture<List<T>> list(Class<T> type) {
+    return run(() -> persistence.list(type));
+  }
+
+  @Override
+  public <T extends APersistentModel> CompletableFuture<Map<UUID, T>> findByIds(Class<T> type, Collection<UUID> ids) {
+    return run(() -> persistence.findByIds(type, ids));
+  }
+
+  @Override
+  public <T extends APersistentModel> CompletableFuture<Boolean> delete(T model) {
+    return run(() -> persistence.delete(model));
+  }
+
+  @Override
+  public <T extends APersistentModel> CompletableFuture<Integer> delete(List<T> models) {
+    return run(() -> persistence.delete(models));
+  }
+
+  @Override
+  public <T extends APersistentModel> CompletableFuture<Integer> delete(QueryBuilder<T> query) {
+    return run(() -> persistence.delete(query));
+  }
+
+  @Override
+  public <T extends APersistentModel> CompletableFuture<Integer> update(QueryBuilder<T> query, Map<String, FieldUpdate> updates) {
+    return run(() -> persistence.update(query, updates));
+  }
+
+  @Override
+  public <T extends APersistentModel> CompletableFuture<Boolean> delete(Class<T> type, UUID id) {
+    return run(() -> persistence.delete(type, id));
+  }
+
+  @Override
+  public <T extends APersistentModel> CompletableFuture<Integer> delete(Class<T> type, Collection<UUID> ids) {
+    return run(() -> persistence.delete(type, ids));
+  }
+
+  @Override
+  public <T extends APersistentModel> CompletableFuture<Integer> delete(Class<T> type, Collection<UUID> ids, @Nullable Consumer<DeleteProgress> progress) {
+    return run(() -> persistence.delete(type, ids, progress));
+  }
+
+  @Override
+  public <T extends APersistentModel> CompletableFuture<List<T>> find(QueryBuilder<T> query) {
+    return run(() -> persistence.find(query));
+  }
+
+  @Override
+  public <T extends APersistentModel> CompletableFuture<Page<T>> findPage(QueryBuilder<T> query) {
+    return run(() -> persistence.findPage(query));
+  }
+
+  @Override
+  public <T extends APersistentModel> CompletableFuture<Integer> count(QueryBuilder<T> query) {
+    return run(() -> persistence.count(query));
+  }
+
+  @Override
+  public <T extends APersistentModel> CompletableFuture<Integer> count(Class<T> type) {
+    return run(() -> persistence.count(type));
+  }
+
+  @Override
+  public <T extends APersistentModel> CompletableFuture<Boolean> exists(QueryBuilder<T> query) {
+    return run(() -> persistence.exists(query));
+  }
+
+  @Override
+  public <T extends APersistentModel> CompletableFuture<Optional<T>> findFirst(QueryBuilder<T> query) {
+    return run(() -> persistence.findFirst(query));
+  }
+
+  @Override
+  public <T extends APersistentModel> CompletableFuture<List<Map<String, Object>>> findRaw(QueryBuilder<T> query, String... properties) {
+    return run(() -> persistence.findRaw(query, properties));
+  }
+
+  @Override
+  public <T extends APersistentModel> CompletableFuture<List<Map<String, Object>>> listRaw(Class<T> type, String... properties) {
+    return run(() -> persistence.listRaw(type, properties));
+  }
+
+  @Override
+  public <T extends APersistentModel> CompletableFuture<ColumnarResult> findColumnar(QueryBuilder<T> query, String... properties) {
+    return run(() -> persistence.findColumnar(query, properties));
+  }
+
+  @Override
+  public <T extends APersistentModel> CompletableFuture<ColumnarResult> listColumnar(Class<T> type, String... properties) {
+    return run(() -> persistence.listColumnar(type, properties));
+  }
+
+  @Override
+  public <T extends APersistentModel, P> CompletableFuture<List<P>> findProjected(QueryBuilder<T> query, Class<P> projection) {
+    return run(() -> persistence.findProjected(query, projection));
+  }
+
+  @Override
+  public <T extends APersistentModel> CompletableFuture<Integer> visitRaw(QueryBuilder<T> query, Consumer<IRowView> visitor, String... properties) {
+    return run(() -> persistence.visitRaw(query, visitor, properties));
+  }
+
+  @Override
+  public Executor getMainThreadExecutor() {
+    return plugin::runTaskAlways;
+  }
+
+  @Override
+  public <R> CompletableFuture<R> onMainThread(CompletableFuture<R> future) {
+    CompletableFuture<R> res = new CompletableFuture<>();
+
+    future.whenComplete((value, error) -> plugin.runTaskAlways(() -> {
+      if (error != null)
+        res.completeExceptionally(error);
+      else
+        res.complete(value);
+    }));
+
+    return res;
+  }
+
+  @Override
+  public void cleanup() {
+    executor.shutdown();
+
+    try {
+      // Give already queued operations a chance to finish, as they might be writes
+      if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_S, TimeUnit.SECONDS))
+        logger.logInfo("Dropped " + executor.shutdownNow().size() + " pending asynchronous persistence operations");
+    } catch (InterruptedException e) {
+      executor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public void initialize() {}
+
+  //=========================================================================//
+  //                               Utilities                                 //
+  //=========================================================================//
+
+  /**
+   * Run a blocking operation on the executor
+   * @param operation Operation to run
+   * @return Future of the operation's result, failed right away if the queue is full
+   */
+  private <R> CompletableFuture<R> run(Supplier<R> operation) {
+    try {
+      return CompletableFuture.supplyAsync(operation, executor);
+    } catch (RejectedExecutionException e) {
+      // Neither block the caller, who might be the main thread, nor buffer without a limit
+      return CompletableFuture.failedFuture(new PersistenceException(
+        executor.isShutdown()
+          ? "The asynchronous persistence has already been shut down"
+          : "Too many pending asynchronous persistence operations"
+      ));
+    }
+  }
+
+  /**
+   * Create the factory for the executor's threads, which hands out virtual
+   * threads if the runtime supports them and daemon platform threads otherwise
+   * @return Thread factory
+   */
+  private ThreadFactory makeThreadFactory() {
+    try {
+      // Thread.ofVirtual().name("MysqlAsync-", 0).factory(), resolved at runtime to stay compatible with older runtimes
+      Class<?> builderC = Class.forName("java.lang.Thread$Builder");
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      builder = builderC.getMethod("name", String.class, long.class).invoke(builder, "MysqlAsync-", 0L);
+
+      Method factory = builderC.getMethod("factory");
+      return (ThreadFactory) factory.invoke(builder);
+    } catch (Exception e) {
+      AtomicInteger counter = new AtomicInteger(0);
+      return r -> {
+        Thread t = new Thread(r, "MysqlAsync-" + counter.getAndIncrement());
+        t.setDaemon(true);
+        return t;
+      };
+    }
+  }
+}
@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import me.blvckbytes.bblibpersistence.ForeignKeyAction;
 import me.blvckbytes.bblibpersistence.MigrationDefault;
+import me.blvckbytes.bblibpersistence.transformers.IDataTransformer;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Field;
@@ -42,10 +43,19 @@ public class MysqlColumn {
   // The corresponding field within the persistent model
   private final Field modelField;
 
+  // Accessor of the model field
+  private final FieldAccessor accessor;
+
   // The field within a transformer's known class that has been inlined
   // through this cloned column, null for non-transformed fields
   @Nullable private final Field knownModelField;
 
+  // Accessor of the known model field, null for non-transformed fields
+  @Nullable private final FieldAccessor knownAccessor;
+
+  // Transformer which the known model field belongs to, null for non-transformed fields
+  @Nullable private final IDataTransformer<?, ?> transformer;
+
   // The table which this column references
   @Nullable private final MysqlTable foreignKey;
 
@@ -0,0 +1,363 @@
+package me.blvckbytes.bblibpersistence.mysql;
+
+import me.blvckbytes.bblibutil.logger.ILogger;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/17/2026
+
+  A bounded pool of database connections which allows independent operations
+  to run in parallel. Connections are validated when borrowed after having been
+  idle for a while and closed again when they've been unused for too long.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class MysqlConnectionPool {
+
+  // Connections that have been handed back within this window are not validated again
+  private static final long VALIDATION_BYPASS_MS = 500;
+
+  // Seconds to wait for the server to respond to a validation request
+  private static final int VALIDATION_TIMEOUT_S = 2;
+
+  private final String url, username, password;
+  private final int minSize, maxSize, statementCacheSize;
+  private final long idleTimeoutMs, borrowTimeoutMs;
+
+  // Connections which are currently not lent out, most recently used first
+  private final LinkedBlockingDeque<PooledConnection> idle;
+
+  // Limits the number of concurrent borrowers to the maximum pool size
+  private final Semaphore permits;
+
+  // Number of physical connections which are currently open
+  private final AtomicInteger openCount;
+
+  // Statement cache counters, summed up over all connections
+  private final AtomicLong statementCacheHits, statementCacheMisses;
+
+  private final ScheduledExecutorService housekeeper;
+  private final ILogger logger;
+  private volatile boolean closed;
+
+  public MysqlConnectionPool(
+    String url,
+    String username,
+    String password,
+    IMysqlTuningSupplier tuning,
+    ILogger logger
+  ) throws SQLException {
+    this.url = url;
+    this.username = username;
+    this.password = password;
+    this.logger = logger;
+
+    this.maxSize = Math.max(1, tuning.getMaxPoolSize());
+    this.minSize = Math.max(0, Math.min(tuning.getMinPoolSize(), maxSize));
+    this.idleTimeoutMs = tuning.getPoolIdleTimeoutMs();
+    this.borrowTimeoutMs = tuning.getPoolBorrowTimeoutMs();
+    this.statementCacheSize = tuning.getStatementCacheSize();
+
+    this.idle = new LinkedBlockingDeque<>();
+    this.permits = new Semaphore(maxSize, true);
+    this.openCount = new AtomicInteger(0);
+    this.statementCacheHits = new AtomicLong(0);
+    this.statementCacheMisses = new AtomicLong(0);
+
+    // Open the minimum amount of connections right away, which also
+    // makes sure that the credentials are valid at startup
+    try {
+      fillToMinimum();
+    } catch (SQLException | RuntimeException e) {
+      // Don't leak the connections which have been opened before the failure
+      PooledConnection conn;
+      while ((conn = idle.pollFirst()) != null)
+        discard(conn);
+
+      throw e;
+    }
+
+    this.housekeeper = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread t = new Thread(r, "MysqlConnectionPool-Housekeeper");
+      t.setDaemon(true);
+      return t;
+    });
+
+    long period = Math.max(1000, Math.min(idleTimeoutMs / 2, 30 * 1000));
+    this.housekeeper.scheduleWithFixedDelay(this::houseKeep, period, period, TimeUnit.MILLISECONDS);
+  }
+
+  //=========================================================================//
+  //                                  API                                    //
+  //=========================================================================//
+
+  /**
+   * Borrow a connection from the pool, which has to be handed back
+   * by closing it as soon as it's not needed anymore
+   * @return Borrowed connection
+   * @throws SQLException No connection became available in time or a new connection could not be opened
+   */
+  public PooledConnection borrow() throws SQLException {
+    if (closed)
+      throw new SQLException("The connection pool has already been closed");
+
+    long deadline = System.currentTimeMillis() + borrowTimeoutMs;
+
+    try {
+      if (!permits.tryAcquire(borrowTimeoutMs, TimeUnit.MILLISECONDS))
+        throw new SQLException("Timed out after " + borrowTimeoutMs + "ms while waiting for a database connection");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLException("Interrupted while waiting for a database connection");
+    }
+
+    try {
+      PooledConnection conn = idle.pollFirst();
+
+      while (true) {
+
+        // No idle connection available, open a new one if there's still room
+        if (conn == null) {
+          if (reserveSlot())
+            return open();
+
+          // Otherwise wait for another borrower to hand back their connection
+          long remaining = deadline - System.currentTimeMillis();
+          conn = idle.pollFirst(Math.max(0, remaining), TimeUnit.MILLISECONDS);
+
+          if (conn == null)
+            throw new SQLException("Timed out after " + borrowTimeoutMs + "ms while waiting for a database connection");
+        }
+
+        if (isValid(conn)) {
+          conn.markBorrowed();
+          return conn;
+        }
+
+        // Throw away broken connections and try the next one
+        discard(conn);
+        conn = idle.pollFirst();
+      }
+    } catch (InterruptedException e) {
+      permits.release();
+      Thread.currentThread().interrupt();
+      throw new SQLException("Interrupted while waiting for a database connection");
+    } catch (SQLException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  /**
+   * Hand a previously borrowed connection back to the pool
+   * @param conn Connection to hand back
+   */
+  public void release(PooledConnection conn) {
+    // Ignore duplicate releases, as they would corrupt the permit count
+    if (!conn.markReleased())
+      return;
+
+    try {
+      if (closed || conn.getConnection().isClosed()) {
+        discard(conn);
+        return;
+      }
+
+      // Never hand out a connection which is still within a transaction
+      if (!conn.getConnection().getAutoCommit()) {
+        conn.getConnection().rollback();
+        conn.getConnection().setAutoCommit(true);
+      }
+
+      // Push to the front, so that rarely needed connections may idle out at the back
+      idle.offerFirst(conn);
+    } catch (SQLException e) {
+      discard(conn);
+    } finally {
+      permits.release();
+    }
+  }
+
+  /**
+   * Close all idle connections and refuse further borrows. Connections which
+   * are currently lent out will be closed as soon as they're handed back.
+   */
+  public void close() {
+    closed = true;
+    housekeeper.shutdownNow();
+
+    PooledConnection conn;
+    while ((conn = idle.pollFirst()) != null)
+      discard(conn);
+  }
+
+  /**
+   * Get the number of physical connections which are currently open
+   */
+  public int getOpenCount() {
+    return openCount.get();
+  }
+
+  /**
+   * Get the number of connections which are currently not lent out
+   */
+  public int getIdleCount() {
+    return idle.size();
+  }
+
+  /**
+   * Get the number of times a cached statement could be reused
+   */
+  public long getStatementCacheHits() {
+    return statementCacheHits.get();
+  }
+
+  /**
+   * Get the number of times a statement had to be prepared anew
+   */
+  public long getStatementCacheMisses() {
+    return statementCacheMisses.get();
+  }
+
+  /**
+   * Record that a connection could reuse a cached statement
+   */
+  void recordStatementCacheHit() {
+    statementCacheHits.incrementAndGet();
+  }
+
+  /**
+   * Record that a connection had to prepare a statement anew
+   */
+  void recordStatementCacheMiss() {
+    statementCacheMisses.incrementAndGet();
+  }
+
+  //=========================================================================//
+  //                               Utilities                                 //
+  //=========================================================================//
+
+  /**
+   * Try to reserve room for a new physical connection
+   * @return True if the connection may be opened, false if the pool is exhausted
+   */
+  private boolean reserveSlot() {
+    while (true) {
+      int curr = openCount.get();
+
+      if (curr >= maxSize)
+        return false;
+
+      if (openCount.compareAndSet(curr, curr + 1))
+        return true;
+    }
+  }
+
+  /**
+   * Open a new physical connection within a previously reserved slot
+   * @return Opened connection, already marked as borrowed
+   */
+  private PooledConnection open() throws SQLException {
+    try {
+      Connection conn = DriverManager.getConnection(url, username, password);
+      PooledConnection pooled = new PooledConnection(conn, this, statementCacheSize);
+      pooled.markBorrowed();
+      return pooled;
+    } catch (SQLException | RuntimeException e) {
+      openCount.decrementAndGet();
+      throw e;
+    }
+  }
+
+  /**
+   * Check whether an idle connection is still usable
+   * @param conn Connection to check
+   * @return True if it may be lent out, false if it's broken
+   */
+  private boolean isValid(PooledConnection conn) {
+    // Recently used connections are assumed to still be alive
+    if (System.currentTimeMillis() - conn.getLastUsed() < VALIDATION_BYPASS_MS)
+      return true;
+
+    try {
+      return conn.getConnection().isValid(VALIDATION_TIMEOUT_S);
+    } catch (SQLException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Close a physical connection and free up it's slot
+   * @param conn Connection to close
+   */
+  private void discard(PooledConnection conn) {
+    openCount.decrementAndGet();
+
+    try {
+      conn.getConnection().close();
+    } catch (SQLException e) {
+      logger.logError(e);
+    }
+  }
+
+  /**
+   * Open new connections until the minimum pool size is reached
+   */
+  private void fillToMinimum() throws SQLException {
+    while (!closed && openCount.get() < minSize && reserveSlot()) {
+      PooledConnection conn = open();
+      conn.markReleased();
+      idle.offerLast(conn);
+    }
+  }
+
+  /**
+   * Evict connections which idled for too long (as long as the minimum size
+   * is still satisfied) and top the pool back up to it's minimum size
+   */
+  private void houseKeep() {
+    long now = System.currentTimeMillis();
+    List<PooledConnection> candidates = new ArrayList<>(idle);
+
+    // Walk from the least recently used end
+    for (int i = candidates.size() - 1; i >= 0; i--) {
+      PooledConnection conn = candidates.get(i);
+
+      if (openCount.get() <= minSize)
+        break;
+
+      if (now - conn.getLastUsed() < idleTimeoutMs)
+        continue;
+
+      // Only discard if no borrower took it in the meantime
+      if (idle.removeLastOccurrence(conn))
+        discard(conn);
+    }
+
+    try {
+      fillToMinimum();
+    } catch (SQLException e) {
+      logger.logError(e);
+    }
+  }
+}
@@ -0,0 +1,122 @@
+package me.blvckbytes.bblibpersistence.mysql;
+
+import me.blvckbytes.bblibpersistence.ICursor;
+import me.blvckbytes.bblibpersistence.exceptions.PersistenceException;
+import me.blvckbytes.bblibutil.logger.ILogger;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/17/2026
+
+  Walks a result set which is fetched through a server side cursor and maps one
+  row at a time. The borrowed connection is handed back as soon as the result
+  set is exhausted or the cursor is closed.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class MysqlCursor<T> implements ICursor<T> {
+
+  private final PooledConnection conn;
+  private final PreparedStatement ps;
+  private final ResultSet rs;
+  private final ILogger logger;
+
+  // Maps the row the result set currently points at
+  private final Callable<T> mapper;
+
+  // Whether the result set has been advanced for the next row already
+  private boolean advanced;
+  private boolean hasNext, closed;
+
+  public MysqlCursor(
+    PooledConnection conn,
+    PreparedStatement ps,
+    ResultSet rs,
+    Callable<T> mapper,
+    ILogger logger
+  ) {
+    this.conn = conn;
+    this.ps = ps;
+    this.rs = rs;
+    this.mapper = mapper;
+    this.logger = logger;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (closed)
+      return false;
+
+    if (!advanced) {
+      try {
+        hasNext = rs.next();
+        advanced = true;
+      } catch (SQLException e) {
+        close();
+        logger.logError(e);
+        throw new PersistenceException("An internal error occurred");
+      }
+
+      // Release the connection as early as possible
+      if (!hasNext)
+        close();
+    }
+
+    return hasNext;
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext())
+      throw new NoSuchElementException();
+
+    advanced = false;
+
+    try {
+      return mapper.call();
+    } catch (PersistenceException e) {
+      close();
+      throw e;
+    } catch (Exception e) {
+      close();
+      logger.logError(e);
+      throw new PersistenceException("An internal error occurred");
+    }
+  }
+
+  @Override
+  public void close() {
+    if (closed)
+      return;
+
+    closed = true;
+
+    try {
+      rs.close();
+
+      // The statement is cached, so it has to fetch everything at once again
+      ps.setFetchSize(0);
+    } catch (SQLException e) {
+      logger.logError(e);
+    } finally {
+      conn.close();
+    }
+  }
+}
@@ -15,18 +15,18 @@ import me.blvckbytes.bblibutil.Tuple;
 import me.blvckbytes.bblibutil.logger.ILogger;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.nio.ByteBuffer;
 import java.sql.*;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
@@ -50,9 +50,56 @@ import java.util.stream.Collectors;
 @AutoConstruct(typeDependencies = { IDataTransformer.class })
 public class MysqlPersistence implements IPersistence, IAutoConstructed {
 
+  // Maximum number of placeholders a server side prepared statement may contain
+  private static final int MAX_PLACEHOLDERS = 65535;
+
+  // Share of the server's max_allowed_packet a multi-row insert may occupy
+  private static final double PACKET_BUDGET_RATIO = .75;
+
   private final Map<Class<? extends APersistentModel>, MysqlTable> tables;
   private final List<IDataTransformer<?, ?>> transformers;
-  private Connection conn;
+
+  // Transformers mapped by their known class
+  private final Map<Class<?>, IDataTransformer<?, ?>> transformersByKnownClass;
+
+  // Accessors of all model fields, shared by the columns which inline the same field
+  private final Map<Field, FieldAccessor> accessors;
+  private MysqlConnectionPool pool;
+
+  // Plans of projections, mapped by the names of their model and projection class
+  private final Map<String, ProjectionPlan> projectionPlans;
+
+  // Generated query SQL texts, mapped by the shape of their query
+  private final LruCache<String, String> queryCache;
+  private final AtomicLong queryCacheHits, queryCacheMisses;
+
+  // Number of rows to collect before a write batch is sent to the server
+  private final int writeBatchSize;
+
+  // Maximum number of rows a single multi-row insert statement contains
+  private final int insertRowsPerStatement;
+
+  // Number of rows a cursor fetches at once by default
+  private final int cursorFetchSize;
+
+  // Maximum number of ids bound by a single lookup statement
+  private final int idLookupChunkSize;
+
+  // Maximum number of values bound by a single IN list of a query
+  private final int inListChunkSize;
+
+  // Generates the ids of newly inserted models
+  private final IIdGenerator idGenerator;
+
+  // Ids per statement and statements per transaction of bulk deletions, as well as the pause between transactions
+  private final int deleteChunkSize, deleteChunksPerTransaction;
+  private final long deletePauseMs;
+
+  // Buffers stores when write-behind is enabled, null otherwise
+  private final @Nullable WriteBehindBuffer writeBehind;
+
+  // The server's max_allowed_packet, read when connecting
+  private long maxPacketBytes;
 
   private final ILogger logger;
   private final APlugin plugin;
@@ -71,12 +118,34 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
     this.credentials = credentials;
 
     this.transformers = new ArrayList<>();
+    this.transformersByKnownClass = new IdentityHashMap<>();
     this.tables = new HashMap<>();
+    this.accessors = new HashMap<>();
+    this.projectionPlans = new ConcurrentHashMap<>();
+    this.queryCache = new LruCache<>(credentials.getQueryCacheSize());
+    this.queryCacheHits = new AtomicLong(0);
+    this.queryCacheMisses = new AtomicLong(0);
+    this.writeBatchSize = Math.max(1, credentials.getWriteBatchSize());
+    this.insertRowsPerStatement = Math.max(1, credentials.getInsertRowsPerStatement());
+    this.cursorFetchSize = Math.max(1, credentials.getCursorFetchSize());
+    this.idLookupChunkSize = Math.max(1, Math.min(MAX_PLACEHOLDERS, credentials.getIdLookupChunkSize()));
+    this.inListChunkSize = Math.max(1, Math.min(MAX_PLACEHOLDERS, credentials.getInListChunkSize()));
+    this.idGenerator = credentials.getIdGenerator();
+    this.deleteChunkSize = Math.max(1, Math.min(MAX_PLACEHOLDERS, credentials.getDeleteChunkSize()));
+    this.deleteChunksPerTransaction = Math.max(1, credentials.getDeleteChunksPerTransaction());
+    this.deletePauseMs = Math.max(0, credentials.getDeletePauseMs());
 
     connect();
     loadTransformers();
     parseAllTables();
     createAllTables();
+
+    this.writeBehind = credentials.isWriteBehindEnabled() ? new WriteBehindBuffer(
+      this::writeNow,
+      credentials.getWriteBehindFlushIntervalMs(),
+      credentials.getWriteBehindMaxPending(),
+      logger
+    ) : null;
   }
 
   //=========================================================================//
@@ -85,14 +154,32 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
 
   @Override
   public void store(APersistentModel model) throws PersistenceException {
-    try {
-      writeModels(List.of(model));
-    } catch (PersistenceException e) {
-      throw e;
-    } catch (Exception e) {
-      logger.logError(e);
-      throw new PersistenceException("An internal error occurred");
+    if (writeBehind != null) {
+      writeBehind.enqueue(model);
+      return;
+    }
+
+    writeNow(List.of(model));
+  }
+
+  @Override
+  public <T extends APersistentModel> void store(List<T> models) throws PersistenceException {
+    if (models.size() == 0)
+      return;
+
+    if (writeBehind != null) {
+      for (T model : models)
+        writeBehind.enqueue(model);
+      return;
     }
+
+    writeNow(models);
+  }
+
+  @Override
+  public void flush() throws PersistenceException {
+    if (writeBehind != null)
+      writeBehind.flush();
   }
 
   @Override
@@ -106,8 +193,8 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
     }
 
     plugin.runTaskAsynchronouslyAlways(() -> {
-      try {
-        writeModels(models);
+      try (PooledConnection conn = pool.borrow()) {
+        writeModels(conn, models);
         plugin.runTaskAlways(() -> error.accept(null));
       } catch (Exception e) {
         logger.logError(e);
@@ -116,17 +203,94 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
     });
   }
 
+  @Override
+  public <T extends APersistentModel> UpsertResult upsert(T model) throws PersistenceException {
+    flushPending(List.of(model));
+
+    try (PooledConnection conn = pool.borrow()) {
+      return upsertModels(conn, List.of(model)).get(0);
+    } catch (PersistenceException e) {
+      throw e;
+    } catch (Exception e) {
+      logger.logError(e);
+      throw new PersistenceException("An internal error occurred");
+    }
+  }
+
+  @Override
+  public <T extends APersistentModel> List<UpsertResult> batchUpsert(List<T> models) throws PersistenceException {
+    if (models.size() == 0)
+      return new ArrayList<>();
+
+    flushPending(models);
+
+    try (PooledConnection conn = pool.borrow()) {
+      return upsertModels(conn, models);
+    } catch (PersistenceException e) {
+      throw e;
+    } catch (Exception e) {
+      logger.logError(e);
+      throw new PersistenceException("An internal error occurred");
+    }
+  }
+
   @Override
   public<T extends APersistentModel> List<T> list(Class<T> type) throws PersistenceException {
-    try {
-      PreparedStatement ps = buildQuery(type, null, false, false, false);
+    try (PooledConnection conn = pool.borrow()) {
+      PreparedStatement ps = buildQuery(conn, type, null, false, false, false);
       logStatement(ps);
 
       ResultSet rs = ps.executeQuery();
       List<T> res = mapRows(type, rs);
 
       rs.close();
-      ps.close();
+      return res;
+    } catch (PersistenceException e) {
+      throw e;
+    } catch (Exception e) {
+      logger.logError(e);
+      throw new PersistenceException("An internal error occurred");
+    }
+  }
+
+  @Override
+  public <T extends APersistentModel> Map<UUID, T> findByIds(Class<T> type, Collection<UUID> ids) throws PersistenceException {
+    try (PooledConnection conn = pool.borrow()) {
+      MysqlTable table = getTableFromModel(type, false);
+
+      // Deduplicate while keeping the caller's order
+      List<UUID> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+      distinct.remove(null);
+
+      Map<UUID, T> found = new HashMap<>();
+
+      for (int start = 0; start < distinct.size(); start += idLookupChunkSize) {
+        List<UUID> chunk = distinct.subList(start, Math.min(start + idLookupChunkSize, distinct.size()));
+
+        // Pad to a power of two by repeating the last id, which keeps the number of distinct statements low
+        int slots = Math.min(idLookupChunkSize, Integer.highestOneBit(chunk.size() * 2 - 1));
+        PreparedStatement ps = conn.prepareCached(buildIdLookupQuery(table, slots));
+
+        for (int i = 0; i < slots; i++)
+          ps.setBytes(i + 1, UuidCodec.toBytes(chunk.get(Math.min(i, chunk.size() - 1))));
+
+        logStatement(ps);
+
+        ResultSet rs = ps.executeQuery();
+        while (rs.next()) {
+          T model = mapRow(type, rs, true);
+          found.put(model.getId(), model);
+        }
+
+        rs.close();
+      }
+
+      Map<UUID, T> res = new LinkedHashMap<>();
+      for (UUID id : distinct) {
+        T model = found.get(id);
+        if (model != null)
+          res.put(id, model);
+      }
 
       return res;
     } catch (PersistenceException e) {
@@ -139,8 +303,11 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
 
   @Override
   public <T extends APersistentModel>boolean delete(Class<T> type, UUID id) throws PersistenceException {
-    try {
-      return deleteModel(type, List.of(id)) > 0;
+    if (writeBehind != null)
+      writeBehind.discard(id);
+
+    try (PooledConnection conn = pool.borrow()) {
+      return deleteModel(conn, type, List.of(id), null) > 0;
     } catch (PersistenceException e) {
       throw e;
     } catch (Exception e) {
@@ -151,15 +318,36 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
 
   @Override
   public <T extends APersistentModel> List<T> find(QueryBuilder<T> query) throws PersistenceException {
-    try {
-      PreparedStatement ps = buildQuery(query.getModel(), query, false, false, false);
-      ResultSet rs = ps.executeQuery();
-      List<T> res = mapRows(query.getModel(), rs);
-
-      rs.close();
-      ps.close();
+    try (PooledConnection conn = pool.borrow()) {
+      return findSeeking(conn, query);
+    } catch (PersistenceException e) {
+      throw e;
+    } catch (Exception e) {
+      logger.logError(e);
+      throw new PersistenceException("An internal error occurred");
+    }
+  }
 
-      return res;
+  @Override
+  public <T extends APersistentModel> Page<T> findPage(QueryBuilder<T> query) throws PersistenceException {
+    try (PooledConnection conn = pool.borrow()) {
+      MysqlTable table = getTableFromModel(query.getModel(), false);
+      List<Tuple<MysqlColumn, Boolean>> order = resolveSeekOrder(table, query);
+      List<T> items = findSeeking(conn, query);
+
+      if (items.isEmpty())
+        return new Page<>(items, null, null);
+
+      // A page which isn't full has reached the end in it's seeking direction
+      boolean isFull = query.getLimit() != null && items.size() >= query.getLimit();
+      boolean hasNext = query.isSeekBackwards() ? query.getSeekAnchor() != null : isFull;
+      boolean hasPrevious = query.isSeekBackwards() ? isFull : query.getSeekAnchor() != null;
+
+      return new Page<>(
+        items,
+        hasNext ? createSeekToken(table, order, items.get(items.size() - 1)) : null,
+        hasPrevious ? createSeekToken(table, order, items.get(0)) : null
+      );
     } catch (PersistenceException e) {
       throw e;
     } catch (Exception e) {
@@ -169,19 +357,33 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
   }
 
   @Override
-  public <T extends APersistentModel> int count(QueryBuilder<T> query) throws PersistenceException {
-    try {
-      PreparedStatement ps = buildQuery(query.getModel(), query, false, true, false);
-      ResultSet rs = ps.executeQuery();
+  public <T extends APersistentModel> ICursor<T> iterate(Class<T> type) throws PersistenceException {
+    return openCursor(type, null, cursorFetchSize);
+  }
+
+  @Override
+  public <T extends APersistentModel> ICursor<T> iterate(QueryBuilder<T> query) throws PersistenceException {
+    return openCursor(query.getModel(), query, cursorFetchSize);
+  }
 
-      if (!rs.next())
-        return 0;
+  @Override
+  public <T extends APersistentModel> ICursor<T> iterate(QueryBuilder<T> query, int fetchSize) throws PersistenceException {
+    return openCursor(query.getModel(), query, Math.max(1, fetchSize));
+  }
 
-      int res = rs.getInt("count");
+  @Override
+  public <T extends APersistentModel> Stream<T> stream(QueryBuilder<T> query) throws PersistenceException {
+    return iterate(query).stream();
+  }
 
-      rs.close();
-      ps.close();
+  @Override
+  public <T extends APersistentModel> int count(QueryBuilder<T> query) throws PersistenceException {
+    try (PooledConnection conn = pool.borrow()) {
+      PreparedStatement ps = buildQuery(conn, query.getModel(), query, false, true, false);
+      ResultSet rs = ps.executeQuery();
+      int res = rs.next() ? rs.getInt("count") : 0;
 
+      rs.close();
       return res;
     } catch (PersistenceException e) {
       throw e;
@@ -193,18 +395,30 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
 
   @Override
   public <T extends APersistentModel> int count(Class<T> type) throws PersistenceException {
-    try {
-      PreparedStatement ps = buildQuery(type, null, false, true, false);
+    try (PooledConnection conn = pool.borrow()) {
+      PreparedStatement ps = buildQuery(conn, type, null, false, true, false);
       ResultSet rs = ps.executeQuery();
+      int res = rs.next() ? rs.getInt("count") : 0;
 
-      if (!rs.next())
-        return 0;
+      rs.close();
+      return res;
+    } catch (PersistenceException e) {
+      throw e;
+    } catch (Exception e) {
+      logger.logError(e);
+      throw new PersistenceException("An internal error occurred");
+    }
+  }
 
-      int res = rs.getInt("count");
+  @Override
+  public <T extends APersistentModel> boolean exists(QueryBuilder<T> query) throws PersistenceException {
+    try (PooledConnection conn = pool.borrow()) {
+      // Only the first and only the count selects a constant, which stops at the first match
+      PreparedStatement ps = buildQuery(conn, query.getModel(), query, true, true, false);
+      ResultSet rs = ps.executeQuery();
+      boolean res = rs.next();
 
       rs.close();
-      ps.close();
-
       return res;
     } catch (PersistenceException e) {
       throw e;
@@ -216,18 +430,12 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
 
   @Override
   public <T extends APersistentModel> Optional<T> findFirst(QueryBuilder<T> query) throws PersistenceException {
-    try {
-      PreparedStatement ps = buildQuery(query.getModel(), query, true, false, false);
+    try (PooledConnection conn = pool.borrow()) {
+      PreparedStatement ps = buildQuery(conn, query.getModel(), query, true, false, false);
       ResultSet rs = ps.executeQuery();
-
-      if (!rs.next())
-        return Optional.empty();
-
-      Optional<T> res = Optional.of(mapRow(query.getModel(), rs));
+      Optional<T> res = rs.next() ? Optional.of(mapRow(query.getModel(), rs, true)) : Optional.empty();
 
       rs.close();
-      ps.close();
-
       return res;
     } catch (PersistenceException e) {
       throw e;
@@ -239,8 +447,8 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
 
   @Override
   public <T extends APersistentModel> List<Map<String, Object>> findRaw(QueryBuilder<T> query, String... properties) {
-    try {
-      return readRowsRaw(query.getModel(), query, properties);
+    try (PooledConnection conn = pool.borrow()) {
+      return readRowsRaw(conn, query.getModel(), query, properties);
     } catch (PersistenceException e) {
       throw e;
     } catch (Exception e) {
@@ -251,8 +459,79 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
 
   @Override
   public <T extends APersistentModel> List<Map<String, Object>> listRaw(Class<T> type, String... properties) {
-    try {
-      return readRowsRaw(type, null, properties);
+    try (PooledConnection conn = pool.borrow()) {
+      return readRowsRaw(conn, type, null, properties);
+    } catch (PersistenceException e) {
+      throw e;
+    } catch (Exception e) {
+      logger.logError(e);
+      throw new PersistenceException("An internal error occurred");
+    }
+  }
+
+  @Override
+  public <T extends APersistentModel> ColumnarResult findColumnar(QueryBuilder<T> query, String... properties) throws PersistenceException {
+    try (PooledConnection conn = pool.borrow()) {
+      return readColumnar(conn, query.getModel(), query, properties);
+    } catch (PersistenceException e) {
+      throw e;
+    } catch (Exception e) {
+      logger.logError(e);
+      throw new PersistenceException("An internal error occurred");
+    }
+  }
+
+  @Override
+  public <T extends APersistentModel> ColumnarResult listColumnar(Class<T> type, String... properties) throws PersistenceException {
+    try (PooledConnection conn = pool.borrow()) {
+      return readColumnar(conn, type, null, properties);
+    } catch (PersistenceException e) {
+      throw e;
+    } catch (Exception e) {
+      logger.logError(e);
+      throw new PersistenceException("An internal error occurred");
+    }
+  }
+
+  @Override
+  public <T extends APersistentModel, P> List<P> findProjected(QueryBuilder<T> query, Class<P> projection) throws PersistenceException {
+    try (PooledConnection conn = pool.borrow()) {
+      ProjectionPlan plan = getProjectionPlan(query.getModel(), projection);
+      PreparedStatement ps = buildQuery(conn, query.getModel(), query, false, false, false, plan.getProperties());
+      ResultSet rs = ps.executeQuery();
+      List<P> res = new ArrayList<>();
+
+      while (rs.next())
+        res.add(projection.cast(mapProjectedRow(plan, rs)));
+
+      rs.close();
+      return res;
+    } catch (PersistenceException e) {
+      throw e;
+    } catch (Exception e) {
+      logger.logError(e);
+      throw new PersistenceException("An internal error occurred");
+    }
+  }
+
+  @Override
+  public <T extends APersistentModel> int visitRaw(QueryBuilder<T> query, Consumer<IRowView> visitor, String... properties) throws PersistenceException {
+    try (PooledConnection conn = pool.borrow()) {
+      MysqlTable table = getTableFromModel(query.getModel(), false);
+      PreparedStatement ps = buildQuery(conn, query.getModel(), query, false, false, false, properties);
+      ResultSet rs = ps.executeQuery();
+
+      // A single view is moved along with the cursor, so rows cause no allocations
+      MysqlRowView view = new MysqlRowView(rs, resolveSelectedColumns(table, properties), this::translateValue);
+      int res = 0;
+
+      while (rs.next()) {
+        visitor.accept(view);
+        res++;
+      }
+
+      rs.close();
+      return res;
     } catch (PersistenceException e) {
       throw e;
     } catch (Exception e) {
@@ -263,6 +542,9 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
 
   @Override
   public <T extends APersistentModel> boolean delete(T model) throws PersistenceException {
+    if (writeBehind != null)
+      writeBehind.discard(WriteBehindBuffer.keyOf(model));
+
     return delete(model.getClass(), model.getId());
   }
 
@@ -271,10 +553,17 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
     if (models.size() == 0)
       return 0;
 
-    try {
+    if (writeBehind != null) {
+      for (T model : models)
+        writeBehind.discard(WriteBehindBuffer.keyOf(model));
+    }
+
+    try (PooledConnection conn = pool.borrow()) {
       return deleteModel(
+        conn,
         models.get(0).getClass(),
-        models.stream().map(APersistentModel::getId).collect(Collectors.toList())
+        models.stream().map(APersistentModel::getId).collect(Collectors.toList()),
+        null
       );
     } catch (PersistenceException e) {
       throw e;
@@ -284,14 +573,64 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
     }
   }
 
+  @Override
+  public <T extends APersistentModel> int delete(Class<T> type, Collection<UUID> ids) throws PersistenceException {
+    return delete(type, ids, null);
+  }
+
+  @Override
+  public <T extends APersistentModel> int delete(
+    Class<T> type,
+    Collection<UUID> ids,
+    @Nullable Consumer<DeleteProgress> progress
+  ) throws PersistenceException {
+    if (ids.size() == 0)
+      return 0;
+
+    if (writeBehind != null) {
+      for (UUID id : ids)
+        writeBehind.discard(id);
+    }
+
+    try (PooledConnection conn = pool.borrow()) {
+      return deleteModel(conn, type, new ArrayList<>(ids), progress);
+    } catch (PersistenceException e) {
+      throw e;
+    } catch (Exception e) {
+      logger.logError(e);
+      throw new PersistenceException("An internal error occurred");
+    }
+  }
+
   @Override
   public <T extends APersistentModel> int delete(QueryBuilder<T> query) throws PersistenceException {
-    try {
-      PreparedStatement ps = buildQuery(query.getModel(), query, false, false, true);
-      int ret = ps.executeUpdate();
+    // Buffered stores of matching rows would otherwise write them back later on
+    if (writeBehind != null)
+      writeBehind.flush(query.getModel());
+
+    try (PooledConnection conn = pool.borrow()) {
+      PreparedStatement ps = buildQuery(conn, query.getModel(), query, false, false, true);
+      return ps.executeUpdate();
+    } catch (PersistenceException e) {
+      throw e;
+    } catch (Exception e) {
+      logger.logError(e);
+      throw new PersistenceException("An internal error occurred");
+    }
+  }
+
+  @Override
+  public <T extends APersistentModel> int update(QueryBuilder<T> query, Map<String, FieldUpdate> updates) throws PersistenceException {
+    if (updates.isEmpty())
+      return 0;
+
+    // Buffered stores of matching rows would otherwise overwrite the update later on
+    if (writeBehind != null)
+      writeBehind.flush(query.getModel());
 
-      ps.close();
-      return ret;
+    try (PooledConnection conn = pool.borrow()) {
+      PreparedStatement ps = buildUpdateQuery(conn, query, updates);
+      return ps.executeUpdate();
     } catch (PersistenceException e) {
       throw e;
     } catch (Exception e) {
@@ -302,12 +641,63 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
 
   @Override
   public void cleanup() {
+    // Write everything that's still buffered before the connections go away
+    if (writeBehind != null) {
+      try {
+        writeBehind.close();
+      } catch (Exception e) {
+        logger.logError(e);
+      }
+    }
+
     this.disconnect();
   }
 
   @Override
   public void initialize() {}
 
+  /**
+   * Get the number of queries which could reuse a cached SQL text
+   */
+  public long getQueryCacheHits() {
+    return queryCacheHits.get();
+  }
+
+  /**
+   * Get the number of queries which had to generate their SQL text
+   */
+  public long getQueryCacheMisses() {
+    return queryCacheMisses.get();
+  }
+
+  /**
+   * Get the number of queries which could reuse a prepared statement
+   */
+  public long getStatementCacheHits() {
+    return pool.getStatementCacheHits();
+  }
+
+  /**
+   * Get the number of queries which had to prepare their statement
+   */
+  public long getStatementCacheMisses() {
+    return pool.getStatementCacheMisses();
+  }
+
+  /**
+   * Get the number of models which are waiting to be written by the write-behind buffer
+   */
+  public int getWriteBehindQueueDepth() {
+    return writeBehind == null ? 0 : writeBehind.getQueueDepth();
+  }
+
+  /**
+   * Get the share of stores which the write-behind buffer collapsed into another store
+   */
+  public double getWriteBehindCoalescingRatio() {
+    return writeBehind == null ? 0 : writeBehind.getCoalescingRatio();
+  }
+
   //=========================================================================//
   //                               Utilities                                 //
   //=========================================================================//
@@ -315,7 +705,7 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
   ////////////////////////////////// Connection /////////////////////////////////////
 
   /**
-   * Establish a connection to the database specified within the configuration file
+   * Establish a pool of connections to the database specified within the configuration file
    */
   private void connect() throws SQLException {
     String username = credentials.getUsername();
@@ -325,27 +715,33 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
       credentials.getDatabase()
     );
 
-    conn = DriverManager.getConnection(
-      "jdbc:mysql://" + resource + "?allowMultiQueries=true&autoReconnect=true&createDatabaseIfNotExist=true",
-      username, credentials.getPassword()
+    // Batched statements are only sent within a single round trip if the driver may rewrite them
+    pool = new MysqlConnectionPool(
+      "jdbc:mysql://" + resource + "?autoReconnect=true&createDatabaseIfNotExist=true&useServerPrepStmts=true&useAffectedRows=true&useCursorFetch=true&rewriteBatchedStatements=true",
+      username, credentials.getPassword(), credentials, logger
     );
 
-    logger.logInfo("Connected to the Database using " + username + "@" + resource);
+    // Multi-row inserts need to fit into a single packet
+    try (
+      PooledConnection conn = pool.borrow();
+      Statement stmt = conn.getConnection().createStatement();
+      ResultSet rs = stmt.executeQuery("SELECT @@max_allowed_packet")
+    ) {
+      maxPacketBytes = rs.next() ? rs.getLong(1) : 4 * 1024 * 1024;
+    }
+
+    logger.logInfo("Connected to the Database using " + username + "@" + resource + " (pool of " + credentials.getMinPoolSize() + " to " + credentials.getMaxPoolSize() + " connections)");
   }
 
   /**
-   * Disconnect an active database connection
+   * Close all pooled database connections
    */
   private void disconnect() {
-    if (this.conn == null)
+    if (this.pool == null)
       return;
 
-    try {
-      this.conn.close();
-      logger.logInfo("Disconnected from the database");
-    } catch (SQLException e) {
-      logger.logError(e);
-    }
+    this.pool.close();
+    logger.logInfo("Disconnected from the database");
   }
 
   //////////////////////////////////// Tables ///////////////////////////////////////
@@ -478,7 +874,7 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
         if (type.get() != MysqlType.UUID)
           throw new PersistenceException("Unsupported identifier type " + f.getType() + " for field " + f.getName() + " of " + model);
 
-        columns.add(new MysqlColumn("id", type.get(), false, MigrationDefault.UNSPECIFIED, true, false, f, null, null, ForeignKeyAction.RESTRICT));
+        columns.add(new MysqlColumn("id", type.get(), false, MigrationDefault.UNSPECIFIED, true, false, f, getAccessor(f), null, null, null, null, ForeignKeyAction.RESTRICT));
         continue;
       }
 
@@ -504,7 +900,7 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
 
       MysqlColumn col = new MysqlColumn(
         modelNameToDBName(f.getName()),
-        type.get(), mp.isNullable(), mp.migrationDefault(), mp.isUnique(), mp.isInlineable(), f, null, foreignKey, mp.foreignChanges()
+        type.get(), mp.isNullable(), mp.migrationDefault(), mp.isUnique(), mp.isInlineable(), f, getAccessor(f), null, null, null, foreignKey, mp.foreignChanges()
       );
 
       columns.add(col);
@@ -519,19 +915,16 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
       throw new PersistenceException("Missing an identifier field in " + model);
 
     // Check if this model is used in combination with a registered transformer
-    boolean isTransformer = false;
-    for (IDataTransformer<?, ?> transformer : transformers) {
-      if (!transformer.getKnownClass().equals(model))
-        continue;
+    boolean isTransformer = transformersByKnownClass.containsKey(model);
 
-      isTransformer = true;
-      break;
-    }
+    ModelPlan plan = buildModelPlan(model, columns);
 
     MysqlTable table = new MysqlTable(
       modelNameToDBName(model.getSimpleName()),
       columns,
-      isTransformer
+      isTransformer,
+      plan,
+      resolveIndexes(model, columns, plan)
     );
 
     // Update private foreign key fields to self
@@ -546,12 +939,170 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
   }
 
   /**
-   * Checks if a table already exists
-   * @param table Table to check for
-   * @return Existing state
+   * Resolve all secondary indexes which are declared on a model's fields or on
+   * the model itself (as well as on it's superclasses)
+   * @param model Model to resolve
+   * @param columns Parsed columns of the model's table
+   * @param plan Plan of the model
+   * @return Mapping index names to the spanned columns in order
    */
-  private boolean isTableExisting(MysqlTable table) throws SQLException {
-    PreparedStatement ps = conn.prepareStatement("SHOW TABLES LIKE '" + table.getName() + "';");
+  private Map<String, List<String>> resolveIndexes(
+    Class<? extends APersistentModel> model,
+    List<MysqlColumn> columns,
+    ModelPlan plan
+  ) {
+    Map<String, List<String>> indexes = new LinkedHashMap<>();
+
+    // Field level indexes start out with the field's own column(s)
+    Set<Field> fields = new LinkedHashSet<>();
+    for (MysqlColumn column : columns)
+      fields.add(column.getModelField());
+
+    for (Field f : fields) {
+      for (Index index : f.getAnnotationsByType(Index.class)) {
+        List<String> indexColumns = resolveIndexColumns(model, columns, plan, f.getName());
+
+        for (String property : index.value())
+          indexColumns.addAll(resolveIndexColumns(model, columns, plan, property));
+
+        addIndex(indexes, indexColumns);
+      }
+    }
+
+    // Class level indexes only span their listed properties
+    for (Class<?> c = model; c != null && c != Object.class; c = c.getSuperclass()) {
+      for (Index index : c.getDeclaredAnnotationsByType(Index.class)) {
+        if (index.value().length == 0)
+          throw new PersistenceException("Class level index of " + c + " has to list at least one property");
+
+        List<String> indexColumns = new ArrayList<>();
+        for (String property : index.value())
+          indexColumns.addAll(resolveIndexColumns(model, columns, plan, property));
+
+        addIndex(indexes, indexColumns);
+      }
+    }
+
+    return indexes;
+  }
+
+  /**
+   * Resolve the columns an index property refers to, which is either a single column
+   * (by it's query name, like holder__uuid) or all columns of a (possibly inlined) field
+   * @param model Model the property belongs to, used for exceptions
+   * @param columns Parsed columns of the model's table
+   * @param plan Plan of the model
+   * @param property Name of the property
+   * @return Names of the columns, in order
+   */
+  private List<String> resolveIndexColumns(
+    Class<? extends APersistentModel> model,
+    List<MysqlColumn> columns,
+    ModelPlan plan,
+    String property
+  ) {
+    List<String> res = new ArrayList<>();
+    MysqlColumn column = plan.getColumnByPropertyName().get(property);
+
+    if (column != null) {
+      res.add(column.getName());
+      return res;
+    }
+
+    for (MysqlColumn c : columns) {
+      if (c.getModelField().getName().equals(property))
+        res.add(c.getName());
+    }
+
+    if (res.isEmpty())
+      throw new PersistenceException("The index property " + property + " is not a member of " + model);
+
+    return res;
+  }
+
+  /**
+   * Add an index to a map of indexes by deriving it's name from the spanned columns
+   * @param indexes Indexes to add to
+   * @param columns Columns spanned by the index, in order
+   */
+  private void addIndex(Map<String, List<String>> indexes, List<String> columns) {
+    // Triple underscore separates columns, just like with the unique constraint
+    String name = "idx__" + String.join("___", columns);
+
+    // Names are limited to 64 characters, so shorten long ones by a hash suffix
+    if (name.length() > 64)
+      name = name.substring(0, 55) + "_" + String.format("%08x", name.hashCode());
+
+    indexes.put(name, columns);
+  }
+
+  /**
+   * Resolve all metadata of a model which is needed when reading and writing it's rows
+   * @param model Model to resolve
+   * @param columns Parsed columns of the model's table
+   * @return Plan of the model
+   */
+  private ModelPlan buildModelPlan(Class<? extends APersistentModel> model, List<MysqlColumn> columns) throws Exception {
+    String[] propertyNames = new String[columns.size()];
+    IDataTransformer<?, ?>[] columnTransformers = new IDataTransformer<?, ?>[columns.size()];
+
+    for (int i = 0; i < columns.size(); i++) {
+      MysqlColumn column = columns.get(i);
+      propertyNames[i] = dbNameToModelName(column.getName(), false);
+      columnTransformers[i] = column.getTransformer();
+    }
+
+    List<FieldAccessor> rowNumberFields = new ArrayList<>();
+    for (Field f : getAllFields(model)) {
+      if (f.isAnnotationPresent(RowNumber.class))
+        rowNumberFields.add(getAccessor(f));
+    }
+
+    // Group inlined columns by the transformed field they belong to
+    Map<Field, List<Integer>> inlinedIndices = new LinkedHashMap<>();
+    for (int i = 0; i < columns.size(); i++) {
+      if (columnTransformers[i] != null)
+        inlinedIndices.computeIfAbsent(columns.get(i).getModelField(), k -> new ArrayList<>()).add(i);
+    }
+
+    List<InlinedField> inlinedFields = new ArrayList<>();
+    for (List<Integer> indices : inlinedIndices.values()) {
+      MysqlColumn first = columns.get(indices.get(0));
+      IDataTransformer<?, ?> transformer = first.getTransformer();
+
+      inlinedFields.add(new InlinedField(
+        first.getAccessor(), transformer,
+        getTableFromModel(transformer.getKnownClass(), true).getPlan(),
+        indices.stream().mapToInt(Integer::intValue).toArray()
+      ));
+    }
+
+    return new ModelPlan(model, columns, propertyNames, rowNumberFields, columnTransformers, inlinedFields);
+  }
+
+  /**
+   * Get the accessor of a model field, which is created on first use
+   * @param f Field to access
+   * @return Accessor of the field
+   */
+  private FieldAccessor getAccessor(Field f) throws IllegalAccessException {
+    FieldAccessor accessor = accessors.get(f);
+
+    if (accessor == null) {
+      accessor = new FieldAccessor(f);
+      accessors.put(f, accessor);
+    }
+
+    return accessor;
+  }
+
+  /**
+   * Checks if a table already exists
+   * @param table Table to check for
+   * @return Existing state
+   */
+  private boolean isTableExisting(PooledConnection conn, MysqlTable table) throws SQLException {
+    PreparedStatement ps = conn.prepareStatement("SHOW TABLES LIKE '" + table.getName() + "'");
     ResultSet rs = ps.executeQuery();
     boolean exists = rs.next();
 
@@ -579,7 +1130,7 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
    * missing in the database
    * @param table Table to use as a diffing reference
    */
-  private void migrateTableConstraints(MysqlTable table) throws SQLException {
+  private void migrateTableConstraints(PooledConnection conn, MysqlTable table) throws SQLException {
     PreparedStatement ps = conn.prepareStatement(spreadString(
       "SELECT",
       "a.CONSTRAINT_NAME,",
@@ -591,7 +1142,7 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
       "ON a.CONSTRAINT_NAME = b.CONSTRAINT_NAME",
       "AND a.TABLE_NAME = b.TABLE_NAME",
       "WHERE a.TABLE_NAME = '" + table.getName() + "'",
-      "AND a.TABLE_SCHEMA = '" + credentials.getDatabase() + "';"
+      "AND a.TABLE_SCHEMA = '" + credentials.getDatabase() + "'"
     ));
 
     // Mapping unique constraint names to their affected columns
@@ -648,7 +1199,7 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
     if (dropUniConstrs) {
       // Drop all unique constraints
       for (String constrName : uniques.keySet()) {
-        PreparedStatement ps2 = this.conn.prepareStatement("ALTER TABLE `" + table.getName() + "` DROP INDEX " + constrName + ";");
+        PreparedStatement ps2 = conn.prepareStatement("ALTER TABLE `" + table.getName() + "` DROP INDEX " + constrName);
         logStatement(ps2);
         ps2.executeUpdate();
         ps2.close();
@@ -659,7 +1210,7 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
 
       // Create a single unique constraint containing all unique columns
       if (uniqueModelCols.size() > 0) {
-        PreparedStatement ps2 = this.conn.prepareStatement("ALTER TABLE `" + table.getName() + "` ADD " + buildUniqueConstraint(table));
+        PreparedStatement ps2 = conn.prepareStatement("ALTER TABLE `" + table.getName() + "` ADD " + buildUniqueConstraint(table));
         logStatement(ps2);
         ps2.executeUpdate();
         ps2.close();
@@ -691,7 +1242,7 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
 
       // The model doesn't have this foreign key, drop it
       if (!modelHas) {
-        PreparedStatement ps2 = conn.prepareStatement("ALTER TABLE `" + table.getName() + "` DROP FOREIGN KEY " + foreignConstr.getKey() + ";");
+        PreparedStatement ps2 = conn.prepareStatement("ALTER TABLE `" + table.getName() + "` DROP FOREIGN KEY " + foreignConstr.getKey());
         logStatement(ps2);
         ps2.executeUpdate();
         ps2.close();
@@ -701,7 +1252,7 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
 
     // All still remaining columns weren't found in db and thus need to be created
     for (Tuple<String, String> foreignCol : foreignModelCols) {
-      PreparedStatement ps2 = conn.prepareStatement("ALTER TABLE `" + table.getName() + "` ADD FOREIGN KEY (`" + foreignCol.getA() + "`) REFERENCES `" + foreignCol.getB() + "`(`id`);");
+      PreparedStatement ps2 = conn.prepareStatement("ALTER TABLE `" + table.getName() + "` ADD FOREIGN KEY (`" + foreignCol.getA() + "`) REFERENCES `" + foreignCol.getB() + "`(`id`)");
       logStatement(ps2);
       ps2.executeUpdate();
       ps2.close();
@@ -712,13 +1263,90 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
     ps.close();
   }
 
+  /**
+   * Migrates secondary indexes, where indexes are dropped if they don't appear in the
+   * local model (or span other columns) and being created if they're missing in the
+   * database. Only indexes managed by this system (idx__ prefix) are ever touched.
+   * @param table Table to use as a diffing reference
+   */
+  private void migrateTableIndexes(PooledConnection conn, MysqlTable table) throws SQLException {
+    PreparedStatement ps = conn.prepareStatement(spreadString(
+      "SELECT INDEX_NAME, COLUMN_NAME",
+      "FROM INFORMATION_SCHEMA.STATISTICS",
+      "WHERE TABLE_NAME = '" + table.getName() + "'",
+      "AND TABLE_SCHEMA = '" + credentials.getDatabase() + "'",
+      "AND INDEX_NAME LIKE 'idx\\_\\_%'",
+      "ORDER BY INDEX_NAME, SEQ_IN_INDEX"
+    ));
+
+    logStatement(ps);
+
+    // Mapping index names to their columns, in order
+    Map<String, List<String>> existing = new HashMap<>();
+
+    ResultSet rs = ps.executeQuery();
+    while (rs.next())
+      existing.computeIfAbsent(rs.getString("INDEX_NAME"), k -> new ArrayList<>()).add(rs.getString("COLUMN_NAME"));
+
+    rs.close();
+    ps.close();
+
+    // Drop obsolete or out-of-date indexes
+    for (Map.Entry<String, List<String>> index : existing.entrySet()) {
+      if (index.getValue().equals(table.getIndexes().get(index.getKey())))
+        continue;
+
+      PreparedStatement ps2 = conn.prepareStatement("ALTER TABLE `" + table.getName() + "` DROP INDEX `" + index.getKey() + "`");
+      logStatement(ps2);
+      ps2.executeUpdate();
+      ps2.close();
+      logger.logDebug("Dropped index " + index.getKey() + " from " + table.getName());
+    }
+
+    // Create missing indexes
+    for (Map.Entry<String, List<String>> index : table.getIndexes().entrySet()) {
+      if (index.getValue().equals(existing.get(index.getKey())))
+        continue;
+
+      PreparedStatement ps2 = conn.prepareStatement("ALTER TABLE `" + table.getName() + "` ADD " + buildIndexDefinition(table, index.getKey(), index.getValue()));
+      logStatement(ps2);
+      ps2.executeUpdate();
+      ps2.close();
+      logger.logDebug("Created index " + index.getKey() + " on " + table.getName());
+    }
+  }
+
+  /**
+   * Build the definition of a secondary index
+   * @param table Table the index belongs to
+   * @param name Name of the index
+   * @param columns Columns spanned by the index, in order
+   * @return Index definition
+   */
+  private String buildIndexDefinition(MysqlTable table, String name, List<String> columns) {
+    StringBuilder def = new StringBuilder("INDEX `").append(name).append("` (");
+
+    for (int i = 0; i < columns.size(); i++) {
+      MysqlColumn column = table.getColumns().get(table.getPlan().getIndex(columns.get(i)));
+      def.append("`").append(column.getName()).append("`");
+
+      // Text columns can only be indexed by a prefix of their value
+      if (column.getType() == MysqlType.TEXT)
+        def.append("(255)");
+
+      def.append(i != columns.size() - 1 ? ", " : ")");
+    }
+
+    return def.toString();
+  }
+
   /**
    * Migrates any missing table columns by adding them with their default value
    * or alter existing columns that differ from what's specified in the model
    * @param table Table to migrate
    */
-  private void migrateTableColumns(MysqlTable table) throws SQLException {
-    PreparedStatement ps = conn.prepareStatement("DESC `" + table.getName() + "`;");
+  private void migrateTableColumns(PooledConnection conn, MysqlTable table) throws SQLException {
+    PreparedStatement ps = conn.prepareStatement("DESC `" + table.getName() + "`");
     logStatement(ps);
 
     List<String> foundCols = new ArrayList<>();
@@ -729,17 +1357,14 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
       foundCols.add(name);
 
       // Find the model's corresponding column type
-      Optional<MysqlColumn> modelCol = table.getColumns()
-          .stream()
-          .filter(col -> col.getName().equals(name))
-          .findFirst();
+      Integer index = table.getPlan().getIndex(name);
 
       // Column exists in the database but is not known as a model property
       // Just keep it and skip
-      if (modelCol.isEmpty())
+      if (index == null)
         continue;
 
-      MysqlColumn col = modelCol.get();
+      MysqlColumn col = table.getColumns().get(index);
 
       // Primary key columns are never altered
       if (col.isPrimaryKey())
@@ -757,7 +1382,7 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
       ) {
         String newSig = buildColumnSignature(col, true);
         PreparedStatement uPs = conn.prepareStatement(
-          "ALTER TABLE `" + table.getName() + "` MODIFY " + newSig + ";"
+          "ALTER TABLE `" + table.getName() + "` MODIFY " + newSig
         );
 
         logStatement(uPs);
@@ -781,7 +1406,7 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
         PreparedStatement uPs = conn.prepareStatement(
           "ALTER TABLE `" + table.getName() +
           "` ALTER `" + col.getName() + "` " +
-          "SET DEFAULT " + col.getMigrationDefault().getSqlValues()[0] + ";"
+          "SET DEFAULT " + col.getMigrationDefault().getSqlValues()[0]
         );
 
         logStatement(uPs);
@@ -798,7 +1423,7 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
         continue;
 
       PreparedStatement uPs = conn.prepareStatement(
-        "ALTER TABLE `" + table.getName() + "` ADD " + buildColumnSignature(col, false) + ";"
+        "ALTER TABLE `" + table.getName() + "` ADD " + buildColumnSignature(col, false)
       );
 
       logStatement(uPs);
@@ -809,7 +1434,10 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
     }
 
     // Migrate missing / out-of-date constraints
-    migrateTableConstraints(table);
+    migrateTableConstraints(conn, table);
+
+    // Migrate missing / out-of-date secondary indexes
+    migrateTableIndexes(conn, table);
 
     rs.close();
     ps.close();
@@ -877,9 +1505,9 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
    * Dispatches a table creation statement if the table doesn't yet exist
    * @param table Table to create
    */
-  private void createTableIfNotExists(MysqlTable table) throws SQLException {
-    if (isTableExisting(table)) {
-      migrateTableColumns(table);
+  private void createTableIfNotExists(PooledConnection conn, MysqlTable table) throws SQLException {
+    if (isTableExisting(conn, table)) {
+      migrateTableColumns(conn, table);
       return;
     }
 
@@ -887,8 +1515,8 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
     List<MysqlColumn> columns = table.getColumns();
     for (MysqlColumn column : columns) {
       MysqlTable fk = column.getForeignKey();
-      if (fk != null && fk != table && !isTableExisting(fk))
-        createTableIfNotExists(column.getForeignKey());
+      if (fk != null && fk != table && !isTableExisting(conn, fk))
+        createTableIfNotExists(conn, column.getForeignKey());
     }
 
     StringBuilder stmt = new StringBuilder("CREATE TABLE IF NOT EXISTS `" + table.getName() + "`(");
@@ -904,8 +1532,11 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
     if (uniqueConstr != null)
       stmt.append(", ").append(uniqueConstr);
 
-    stmt.append(");");
-    PreparedStatement ps = this.conn.prepareStatement(stmt.toString());
+    for (Map.Entry<String, List<String>> index : table.getIndexes().entrySet())
+      stmt.append(", ").append(buildIndexDefinition(table, index.getKey(), index.getValue()));
+
+    stmt.append(")");
+    PreparedStatement ps = conn.prepareStatement(stmt.toString());
     logStatement(ps);
 
     ps.executeUpdate();
@@ -919,10 +1550,12 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
    * transformers (as they're always inlined)
    */
   private void createAllTables() throws SQLException {
-    for (MysqlTable table : tables.values()) {
-      // Don't create inlined transformer tables
-      if (!table.isTransformer())
-        createTableIfNotExists(table);
+    try (PooledConnection conn = pool.borrow()) {
+      for (MysqlTable table : tables.values()) {
+        // Don't create inlined transformer tables
+        if (!table.isTransformer())
+          createTableIfNotExists(conn, table);
+      }
     }
   }
 
@@ -961,14 +1594,14 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
     if (name == null)
       return null;
 
-    return table.getColumns().stream()
-      .filter(
-        c -> dbNameToModelName(c.getName(), false).equals(name)
-      )
-      .findFirst()
-      .orElseThrow(() -> new RuntimeException(
+    MysqlColumn column = table.getPlan().getColumnByPropertyName().get(name);
+
+    if (column == null)
+      throw new RuntimeException(
         "The query field " + name + " is not a member of the model " + dbNameToModelName(table.getName(), true)
-      ));
+      );
+
+    return column;
   }
 
   /**
@@ -1017,6 +1650,7 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
         return "UNIX_TIMESTAMP(`" + column.getName() + "`)";
 
       case INTEGER:
+      case LONG:
       case DOUBLE:
       case FLOAT:
         return "`" + column.getName() + "`";
@@ -1027,27 +1661,134 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
   }
 
   /**
-   * Stringify a field query to a partial statement, for example:
-   * field=test, op=EQ, value=5 would yield: `test` == ? and add (INTEGER, 5) to params
-   * @param query Query to stringify
+   * Check whether an equality operation matches using wildcards
+   * @param op Operation to check
+   */
+  private boolean isWildcardOp(EqualityOperation op) {
+    return (
+      op == EqualityOperation.CONT ||
+      op == EqualityOperation.CONT_IC ||
+      op == EqualityOperation.STARTS ||
+      op == EqualityOperation.STARTS_IC ||
+      op == EqualityOperation.ENDS ||
+      op == EqualityOperation.ENDS_IC
+    );
+  }
+
+  /**
+   * Checks whether the provided operation compares against a collection of values
+   * @param op Operation to check
+   */
+  private boolean isListOp(EqualityOperation op) {
+    return op == EqualityOperation.IN || op == EqualityOperation.NOT_IN;
+  }
+
+  /**
+   * Get the number of placeholders an IN list of a given size binds. Full chunks are
+   * followed by a remainder which is padded to a power of two, so that the number of
+   * distinct statements stays low while the shape stays a function of the size.
+   * @param numValues Number of values within the list
+   * @return Number of placeholders
+   */
+  private int inListSlots(int numValues) {
+    int remainder = numValues % inListChunkSize;
+    int full = numValues - remainder;
+
+    if (remainder == 0)
+      return full;
+
+    return full + Math.min(inListChunkSize, Integer.highestOneBit(remainder * 2 - 1));
+  }
+
+  /**
+   * Stringify an IN (or NOT IN) comparison, split up into multiple lists if needed
+   * @param fieldExpr Expression of the field to compare
+   * @param ph Placeholder of a single value
+   * @param negated Whether to check for absence instead of presence
+   * @param numValues Number of values within the list
+   * @return Stringified comparison, see {@link #collectInListParams} for it's parameters
+   */
+  private String stringifyInList(String fieldExpr, String ph, boolean negated, int numValues) {
+    // Nothing is a member of an empty list
+    if (numValues == 0)
+      return negated ? "1 = 1" : "1 = 0";
+
+    StringBuilder res = new StringBuilder("(");
+    int remaining = inListSlots(numValues);
+
+    while (remaining > 0) {
+      int size = Math.min(remaining, inListChunkSize);
+
+      if (res.length() > 1)
+        res.append(negated ? " AND " : " OR ");
+
+      res.append(fieldExpr).append(negated ? " NOT IN (" : " IN (");
+
+      for (int i = 0; i < size; i++)
+        res.append(i == 0 ? "" : ", ").append(ph);
+
+      res.append(")");
+      remaining -= size;
+    }
+
+    return res.append(")").toString();
+  }
+
+  /**
+   * Validate and collect the parameters of an IN (or NOT IN) comparison, where
+   * the padding slots repeat the last value, which doesn't change the result
+   * @param query Query holding the collection of values
+   * @param targColA Column to compare
+   * @param targColB Second column of a field operation, which is not supported
+   * @param params Modifyable list of parameters to add to
+   */
+  private void collectInListParams(
+    FieldQuery query,
+    MysqlColumn targColA,
+    @Nullable MysqlColumn targColB,
+    List<Tuple<MysqlType, Object>> params
+  ) {
+    if (targColB != null)
+      throw new PersistenceException("The operation " + query.getEqOp() + " does not support field operations");
+
+    if (!(query.getValue() instanceof Collection))
+      throw new PersistenceException("The operation " + query.getEqOp() + " on " + query.getFieldA() + " requires a collection of values");
+
+    if (!targColA.getType().supportsOp(query.getEqOp()))
+      throw new PersistenceException("The query field " + query.getFieldA() + " does not support the operation " + query.getEqOp());
+
+    List<Object> values = new ArrayList<>((Collection<?>) query.getValue());
+
+    for (Object value : values) {
+      if (value == null)
+        throw new PersistenceException("The values of " + query.getEqOp() + " on " + query.getFieldA() + " cannot contain null");
+
+      validateQueryFieldType(targColA, query.getFieldA(), value, false, false);
+    }
+
+    int slots = inListSlots(values.size());
+    for (int i = 0; i < slots; i++)
+      params.add(new Tuple<>(targColA.getType(), values.get(Math.min(i, values.size() - 1))));
+  }
+
+  /**
+   * Validate a field query against it's table and add it's value to the
+   * parameters, if the stringified query contains a placeholder for it
+   * @param query Query to collect the parameter of
    * @param table Table which this field has to be a member of
    * @param params Modifyable list of parameters to add the value parameter
-   * @return Stringified query
    */
-  private String stringifyFieldQuery(FieldQuery query, MysqlTable table, List<Tuple<MysqlType, Object>> params) {
+  private void collectFieldQueryParam(FieldQuery query, MysqlTable table, List<Tuple<MysqlType, Object>> params) {
     MysqlColumn targColA = getColumnByName(table, query.getFieldA());
     MysqlColumn targColB = getColumnByName(table, query.getFieldB());
 
     boolean isNull = query.getValue() == null;
+    boolean isWildcard = isWildcardOp(query.getEqOp());
 
-    // Check if this will be a wildcard operation
-    boolean isWildcard =
-      query.getEqOp() == EqualityOperation.CONT ||
-      query.getEqOp() == EqualityOperation.CONT_IC ||
-      query.getEqOp() == EqualityOperation.STARTS ||
-      query.getEqOp() == EqualityOperation.STARTS_IC ||
-      query.getEqOp() == EqualityOperation.ENDS ||
-      query.getEqOp() == EqualityOperation.ENDS_IC;
+    if (isListOp(query.getEqOp())) {
+      collectInListParams(query, targColA, targColB, params);
+      return;
+    }
 
     // Validate that the column's types are compatible with the value's java type
     if (!isNull) {
@@ -1063,25 +1804,14 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
     if (targColB != null && !targColB.getType().supportsOp(query.getEqOp()))
       throw new PersistenceException("The query field " + query.getFieldB() + " does not support the operation " + query.getEqOp());
 
-    String ph = "?";
-    String fieldExpr;
-
-    // When using operators, wrap columns with transformation functions (if necessary)
-    if (query.getFieldOp() != null && targColB != null)
-      fieldExpr = wrapColumnForOp(targColA) + " " + query.getFieldOp() + " " + wrapColumnForOp(targColB);
-    else
-      fieldExpr = "`" + targColA.getName() + "`";
-
     Object value = query.getValue();
 
     if (isWildcard) {
       // UUIDs need to be "stringified" to allow for wildcard OPs
       // When turning the binary columns to hex, there are no dashes, thus
       // strip all dashes off the value's UUID
-      if (targColA.getType() == MysqlType.UUID) {
-        fieldExpr = "HEX(`" + targColA.getName() + "`)";
+      if (targColA.getType() == MysqlType.UUID)
         value = value.toString().replace("-", "");
-      }
 
       // Escape all reserved wildcard characters using bang as an escape character
       value = value.toString()
@@ -1103,13 +1833,41 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
         value = "%" + value;
     }
 
-    // If it's not a wildcard query: UUIDs need to be converted to binary
-    else if (targColA.getType().equals(MysqlType.UUID))
-      ph = uuidToBin("?", false);
-
     // Only add placeholder values if there actually was a placeholder appended
     if (!(isNull && (query.getEqOp() == EqualityOperation.EQ || query.getEqOp() == EqualityOperation.NEQ)))
       params.add(new Tuple<>(targColA.getType(), value));
+  }
+
+  /**
+   * Stringify a field query to a partial statement, for example:
+   * field=test, op=EQ, value=5 would yield: `test` == ? and add (INTEGER, 5) to params
+   * @param query Query to stringify
+   * @param table Table which this field has to be a member of
+   * @param params Modifyable list of parameters to add the value parameter
+   * @return Stringified query
+   */
+  private String stringifyFieldQuery(FieldQuery query, MysqlTable table, List<Tuple<MysqlType, Object>> params) {
+    collectFieldQueryParam(query, table, params);
+
+    MysqlColumn targColA = getColumnByName(table, query.getFieldA());
+    MysqlColumn targColB = getColumnByName(table, query.getFieldB());
+
+    boolean isNull = query.getValue() == null;
+    boolean isWildcard = isWildcardOp(query.getEqOp());
+
+    String ph = "?";
+    String fieldExpr;
+
+    // When using operators, wrap columns with transformation functions (if necessary)
+    if (query.getFieldOp() != null && targColB != null)
+      fieldExpr = wrapColumnForOp(targColA) + " " + query.getFieldOp() + " " + wrapColumnForOp(targColB);
+    else
+      fieldExpr = "`" + targColA.getName() + "`";
+
+    // UUIDs are compared by their hex representation when using wildcards,
+    // otherwise they're bound as raw bytes, just like they're stored
+    if (isWildcard && targColA.getType() == MysqlType.UUID)
+      fieldExpr = "HEX(`" + targColA.getName() + "`)";
 
     // Whether to compare using tolerance
     boolean isCommaComp = (
@@ -1163,6 +1921,10 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
 
       case GTE:
         return fieldExpr + " >= " + ph;
+
+      case IN:
+      case NOT_IN:
+        return stringifyInList(fieldExpr, ph, query.getEqOp() == EqualityOperation.NOT_IN, ((Collection<?>) query.getValue()).size());
     }
 
     throw new IllegalStateException("Invalid operator encountered.");
@@ -1214,92 +1976,571 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
   }
 
   /**
-   * Build a selecting query from a query builder's state
-   * @param query Query builder to build from, leave at null to have no WHERE clause
-   * @param onlyFirst Whether to only query for the first result
-   * @param onlyCount Whether to only count the number of results instead of fetching the actual data
-   * @param fields Fields to select, leave empty to select everything
-   * @return Built query statement with all parameters applied
+   * Resolve the total order a keyset seek compares by, which is the query's sorting
+   * followed by the id as a tiebreaker (in the direction of the last sorting column).
+   * Nullable columns are rejected, as row value comparisons never match NULLs.
+   * @param table Table which the sorting fields are members of
+   * @param query Query to resolve the order of
+   * @return Columns and their sorting direction, not yet flipped for backwards seeks
    */
-  private<T extends APersistentModel> PreparedStatement buildQuery(
-    Class<T> model,
-    @Nullable QueryBuilder<?> query,
-    boolean onlyFirst,
-    boolean onlyCount,
-    boolean delete,
-    String ...fields
-  ) throws Exception {
-    MysqlTable table = getTableFromModel(model, false);
-    StringBuilder stmt = new StringBuilder();
-
-    // Stringify the order by clause ahead of time, as it may be required in SELECT as well as after WHERE
-    String orderBy = (query == null || query.getSorting().size() == 0) ? "" : "ORDER BY " + stringifySorting(table, query.getSorting());
+  private List<Tuple<MysqlColumn, Boolean>> resolveSeekOrder(MysqlTable table, QueryBuilder<?> query) {
+    List<Tuple<MysqlColumn, Boolean>> order = new ArrayList<>();
+    MysqlColumn primaryKey = table.getPlan().getColumns()[table.getPlan().getPrimaryKeyIndex()];
+    boolean lastAscending = true;
 
-    // Find all columns that are row counter receivers if not only the count is selected
-    List<String> rowCounters = new ArrayList<>();
-    if (!onlyCount && !delete) {
-      rowCounters = getAllFields(model).stream()
-        .filter(f -> f.isAnnotationPresent(RowNumber.class))
-        .map(f -> f.getAnnotation(RowNumber.class).partitionedBy())
-        .collect(Collectors.toList());
-    }
+    for (Map.Entry<String, Boolean> sorting : query.getSorting().entrySet()) {
+      MysqlColumn col = getColumnByName(table, sorting.getKey());
 
-    // Selection mode
-    if (!delete) {
-      stmt.append("SELECT ");
+      if (col.getTransformer() != null)
+        throw new PersistenceException("Cannot seek by the transformed field " + sorting.getKey());
 
-      if (onlyCount)
-        stmt.append("COUNT(*) AS `count`");
+      // NULLs sort first ascending and last descending, where they'd either be
+      // an anchor without a value or would never be reached by the predicate
+      if (col.isNullable())
+        throw new PersistenceException("Cannot seek by the nullable field " + sorting.getKey());
 
-      else if (fields.length == 0)
-        stmt.append("*");
+      order.add(new Tuple<>(col, sorting.getValue()));
+      lastAscending = sorting.getValue();
 
-      else {
-        for (int i = 0; i < fields.length; i++) {
-          String field = fields[i];
-          String name = getColumnByName(table, field).getName();
-          stmt.append("`").append(name).append("`").append(i != fields.length - 1 ? ", " : "");
-        }
-      }
+      // The id is unique, so columns after it can never break a tie
+      if (col == primaryKey)
+        return order;
     }
 
-    // Deletion mode
-    else
-      stmt.append("DELETE");
+    order.add(new Tuple<>(primaryKey, lastAscending));
+    return order;
+  }
 
-    stmt.append(" FROM ");
+  /**
+   * Stringify the order by clause content of a seeking query
+   * @param order Total order to seek by
+   * @param backwards Whether to walk the order in reverse
+   * @return Stringified order by clause content
+   */
+  private String stringifySeekOrder(List<Tuple<MysqlColumn, Boolean>> order, boolean backwards) {
+    StringBuilder sortStr = new StringBuilder();
 
-    // In order to get proper row numbers, select
-    // from a sub-query without the WHERE clause first
-    if (!rowCounters.isEmpty()) {
-      stmt.append("(").append("SELECT *");
+    for (int i = 0; i < order.size(); i++) {
+      Tuple<MysqlColumn, Boolean> column = order.get(i);
+      sortStr.append("`").append(column.getA().getName()).append("` ")
+        .append(column.getB() != backwards ? "ASC" : "DESC")
+        .append(i != order.size() - 1 ? ", " : "");
+    }
 
-      // Add an individual row number counter for each row counter annotated in the model
-      for (String rowCounter : rowCounters) {
-        String name = getColumnByName(table, rowCounter).getName();
+    return sortStr.toString();
+  }
 
-        stmt.append(", ROW_NUMBER() OVER (PARTITION BY `").append(name).append("` ")
-          .append(orderBy)
-          .append(") AS __ROW_NUMBER_").append(name.toUpperCase());
+  /**
+   * Stringify the predicate which only lets rows after (or before) the seek anchor pass.
+   * Uniform directions allow for a row constructor comparison, like (a, id) > (?, ?), while
+   * mixed directions have to be expanded into (a > ?) OR (a = ? AND id < ?).
+   * @param order Total order to seek by
+   * @param backwards Whether to seek before the anchor instead of after it
+   * @return Stringified predicate, see {@link #collectSeekParams} for it's parameters
+   */
+  private String stringifySeekPredicate(List<Tuple<MysqlColumn, Boolean>> order, boolean backwards) {
+    boolean isUniform = order.stream().allMatch(c -> c.getB().equals(order.get(0).getB()));
+
+    if (isUniform) {
+      StringBuilder columns = new StringBuilder("(");
+      StringBuilder placeholders = new StringBuilder("(");
+
+      for (int i = 0; i < order.size(); i++) {
+        MysqlColumn col = order.get(i).getA();
+        String sep = i != order.size() - 1 ? ", " : ")";
+        columns.append("`").append(col.getName()).append("`").append(sep);
+        placeholders.append("?").append(sep);
       }
 
-      stmt.append(" FROM `").append(table.getName()).append("` ")
-        .append(orderBy)
-        .append(") x");
+      return columns + (order.get(0).getB() != backwards ? " > " : " < ") + placeholders;
     }
 
-    // Not selecting row numbers, select directly from the target table
-    else
+    StringBuilder predicate = new StringBuilder("(");
+
+    for (int i = 0; i < order.size(); i++) {
+      predicate.append(i == 0 ? "(" : " OR (");
+
+      // All previous columns tie with the anchor
+      for (int j = 0; j < i; j++) {
+        MysqlColumn col = order.get(j).getA();
+        predicate.append("`").append(col.getName()).append("` = ? AND ");
+      }
+
+      MysqlColumn col = order.get(i).getA();
+      predicate.append("`").append(col.getName()).append("` ")
+        .append(order.get(i).getB() != backwards ? "> ?)" : "< ?)");
+    }
+
+    return predicate.append(")").toString();
+  }
+
+  /**
+   * Collect the parameters of a seek predicate in the same order that
+   * {@link #stringifySeekPredicate} uses them in
+   * @param table Table to query
+   * @param query Query builder holding the seek anchor
+   * @param order Total order to seek by
+   * @param params Modifyable list of parameters to add to
+   */
+  private void collectSeekParams(
+    MysqlTable table,
+    QueryBuilder<?> query,
+    List<Tuple<MysqlColumn, Boolean>> order,
+    List<Tuple<MysqlType, Object>> params
+  ) {
+    Object[] values = resolveSeekValues(table, query, order);
+    boolean isUniform = order.stream().allMatch(c -> c.getB().equals(order.get(0).getB()));
+
+    if (isUniform) {
+      for (int i = 0; i < order.size(); i++)
+        params.add(new Tuple<>(order.get(i).getA().getType(), values[i]));
+      return;
+    }
+
+    for (int i = 0; i < order.size(); i++) {
+      for (int j = 0; j <= i; j++)
+        params.add(new Tuple<>(order.get(j).getA().getType(), values[j]));
+    }
+  }
+
+  /**
+   * Resolve the sorting values of a query's seek anchor, either by reading
+   * them off of the anchor model or by decoding the continuation token
+   * @param table Table to query
+   * @param query Query builder holding the seek anchor
+   * @param order Total order to seek by
+   * @return Values, in the order of the seek columns
+   * @throws PersistenceException Token mismatch or null values to seek from
+   */
+  private Object[] resolveSeekValues(
+    MysqlTable table,
+    QueryBuilder<?> query,
+    List<Tuple<MysqlColumn, Boolean>> order
+  ) throws PersistenceException {
+    Object anchor = query.getSeekAnchor();
+
+    Object[] values = (anchor instanceof String)
+      ? SeekToken.decode(buildSeekSignature(table, order), (String) anchor)
+      : readSeekValues(order, (APersistentModel) anchor);
+
+    if (values.length != order.size())
+      throw new PersistenceException("The continuation token does not belong to this query's ordering");
+
+    for (int i = 0; i < values.length; i++) {
+      // Comparisons against NULL never match, which would silently yield empty pages
+      if (values[i] == null)
+        throw new PersistenceException("Cannot seek from a null value of " + order.get(i).getA().getName());
+    }
+
+    return values;
+  }
+
+  /**
+   * Read the sorting values off of a model
+   * @param order Total order to seek by
+   * @param model Model to read from
+   * @return Values, in the order of the seek columns
+   */
+  private Object[] readSeekValues(List<Tuple<MysqlColumn, Boolean>> order, APersistentModel model) {
+    Object[] values = new Object[order.size()];
+
+    for (int i = 0; i < values.length; i++) {
+      Object value = order.get(i).getA().getAccessor().get(model);
+
+      // Enums are stored by their name
+      if (value instanceof Enum<?>)
+        value = ((Enum<?>) value).name();
+
+      values[i] = value;
+    }
+
+    return values;
+  }
+
+  /**
+   * Create the continuation token which points at a model within a given order
+   * @param table Table of the model
+   * @param order Total order to seek by
+   * @param model Model to point at
+   * @return Encoded token
+   */
+  private String createSeekToken(MysqlTable table, List<Tuple<MysqlColumn, Boolean>> order, APersistentModel model) {
+    return SeekToken.encode(buildSeekSignature(table, order), readSeekValues(order, model));
+  }
+
+  /**
+   * Build the signature of a seek order, which tokens are bound to
+   * @param table Table to query
+   * @param order Total order to seek by
+   * @return Signature
+   */
+  private String buildSeekSignature(MysqlTable table, List<Tuple<MysqlColumn, Boolean>> order) {
+    StringBuilder signature = new StringBuilder(table.getName()).append('|');
+
+    for (Tuple<MysqlColumn, Boolean> column : order)
+      signature.append(column.getA().getName()).append(column.getB() ? '+' : '-');
+
+    return signature.toString();
+  }
+
+  /**
+   * Describe the structure of a query, which is everything that influences the generated
+   * SQL but not the bound values, in order to use it as a key for cached SQL texts
+   * @param model Model to query
+   * @param query Query builder to describe, null if there's no WHERE clause
+   * @param onlyFirst Whether to only query for the first result
+   * @param onlyCount Whether to only count the number of results
+   * @param delete Whether to delete instead of select
+   * @param fields Fields to select, empty to select everything
+   * @return Shape key
+   */
+  private String buildQueryShape(
+    Class<?> model,
+    @Nullable QueryBuilder<?> query,
+    boolean onlyFirst,
+    boolean onlyCount,
+    boolean delete,
+    String[] fields
+  ) {
+    StringBuilder shape = new StringBuilder(model.getName())
+      .append('|').append(onlyFirst ? 'F' : '-').append(onlyCount ? 'C' : '-').append(delete ? 'D' : '-')
+      .append('|');
+
+    for (String field : fields)
+      shape.append(field).append(',');
+
+    if (query == null)
+      return shape.toString();
+
+    shape.append('|');
+
+    if (query.getRoot() != null) {
+      appendFieldQueryGroupShape(shape, query.getRoot());
+
+      for (Tuple<QueryConnection, FieldQueryGroup> additional : query.getAdditionals()) {
+        shape.append(additional.getA());
+        appendFieldQueryGroupShape(shape, additional.getB());
+      }
+    }
+
+    shape.append('|');
+
+    for (Map.Entry<String, Boolean> sorting : query.getSorting().entrySet())
+      shape.append(sorting.getKey()).append(sorting.getValue() ? '+' : '-');
+
+    return shape
+      .append('|')
+      .append(query.getLimit() != null ? 'L' : '-')
+      .append(query.getSkip() != null ? 'S' : '-')
+      .append(query.getSeekAnchor() == null ? '-' : (query.isSeekBackwards() ? 'B' : 'A'))
+      .toString();
+  }
+
+  /**
+   * Append the shape of a field query group to a shape key
+   * @param shape Shape key to append to
+   * @param group Group to describe
+   */
+  private void appendFieldQueryGroupShape(StringBuilder shape, FieldQueryGroup group) {
+    shape.append('(');
+    appendFieldQueryShape(shape, group.getRoot());
+
+    for (Tuple<QueryConnection, FieldQuery> additional : group.getAdditionals()) {
+      shape.append(additional.getA());
+      appendFieldQueryShape(shape, additional.getB());
+    }
+
+    shape.append(')');
+  }
+
+  /**
+   * Append the shape of a field query to a shape key, where
+   * null values are relevant as they result in IS NULL checks
+   * @param shape Shape key to append to
+   * @param query Query to describe
+   */
+  private void appendFieldQueryShape(StringBuilder shape, FieldQuery query) {
+    shape
+      .append('[')
+      .append(query.getFieldA()).append(' ')
+      .append(query.getFieldOp()).append(' ')
+      .append(query.getFieldB()).append(' ')
+      .append(query.getEqOp())
+      .append(query.getValue() == null ? " null" : "")
+      .append(query.getValue() instanceof Collection ? " #" + inListSlots(((Collection<?>) query.getValue()).size()) : "")
+      .append(']');
+  }
+
+  /**
+   * Collect all parameters of a query in the same order that
+   * {@link #generateQuery} adds them in, without generating any SQL
+   * @param table Table to query
+   * @param query Query builder to collect from, null if there's no WHERE clause
+   * @param onlyFirst Whether to only query for the first result
+   * @param delete Whether to delete instead of select
+   * @param params Modifyable list of parameters to add to
+   */
+  private void collectQueryParams(
+    MysqlTable table,
+    @Nullable QueryBuilder<?> query,
+    boolean onlyFirst,
+    boolean delete,
+    List<Tuple<MysqlType, Object>> params
+  ) {
+    if (query == null)
+      return;
+
+    if (query.getRoot() != null) {
+      collectFieldQueryGroupParams(query.getRoot(), table, params);
+
+      for (Tuple<QueryConnection, FieldQueryGroup> additional : query.getAdditionals())
+        collectFieldQueryGroupParams(additional.getB(), table, params);
+    }
+
+    // Keep the sorting fields validated, as they're part of the cached SQL
+    for (String field : query.getSorting().keySet())
+      getColumnByName(table, field);
+
+    if (!delete) {
+      if (query.getSeekAnchor() != null)
+        collectSeekParams(table, query, resolveSeekOrder(table, query), params);
+
+      if (!onlyFirst && query.getLimit() != null)
+        params.add(new Tuple<>(MysqlType.INTEGER, query.getLimit()));
+
+      if (query.getSkip() != null)
+        params.add(new Tuple<>(MysqlType.INTEGER, query.getSkip()));
+    }
+  }
+
+  /**
+   * Collect all parameters of a field query group, see {@link #collectQueryParams}
+   * @param group Query group to collect from
+   * @param table Table which this field has to be a member of
+   * @param params Modifyable list of parameters to add to
+   */
+  private void collectFieldQueryGroupParams(FieldQueryGroup group, MysqlTable table, List<Tuple<MysqlType, Object>> params) {
+    collectFieldQueryParam(group.getRoot(), table, params);
+
+    for (Tuple<QueryConnection, FieldQuery> additional : group.getAdditionals())
+      collectFieldQueryParam(additional.getB(), table, params);
+  }
+
+  /**
+   * Build the SQL text of a full selection by a list of raw binary ids
+   * @param table Table to select from
+   * @param numIds Number of id placeholders within the IN list
+   * @return SQL text, which is cached by the table and the number of ids
+   */
+  private String buildIdLookupQuery(MysqlTable table, int numIds) {
+    String key = "ids|" + table.getName() + "|" + numIds;
+
+    synchronized (queryCache) {
+      String cached = queryCache.get(key);
+      if (cached != null)
+        return cached;
+    }
+
+    StringBuilder stmt = new StringBuilder("SELECT ").append(table.getPlan().getSelectList());
+    List<Tuple<MysqlColumn, FieldAccessor>> rowCounters = table.getPlan().getRowNumberReceivers();
+
+    for (Tuple<MysqlColumn, FieldAccessor> rowCounter : rowCounters)
+      stmt.append(", `__ROW_NUMBER_").append(rowCounter.getA().getName().toUpperCase()).append('`');
+
+    stmt.append(" FROM ");
+
+    // Row numbers have to be computed over the whole table, see generateQuery
+    if (!rowCounters.isEmpty()) {
+      stmt.append("(SELECT *");
+
+      for (Tuple<MysqlColumn, FieldAccessor> rowCounter : rowCounters) {
+        String name = rowCounter.getA().getName();
+        stmt.append(", ROW_NUMBER() OVER (PARTITION BY `").append(name).append("`) AS __ROW_NUMBER_").append(name.toUpperCase());
+      }
+
+      stmt.append(" FROM `").append(table.getName()).append("`) x");
+    }
+
+    else
       stmt.append("`").append(table.getName()).append("`");
 
+    stmt.append(" WHERE `id` IN (");
+    for (int i = 0; i < numIds; i++)
+      stmt.append(i == 0 ? "?" : ", ?");
+    stmt.append(")");
+
+    String sql = stmt.toString();
+
+    synchronized (queryCache) {
+      queryCache.put(key, sql);
+    }
+
+    return sql;
+  }
+
+  /**
+   * Build a selecting query from a query builder's state. The generated SQL text is
+   * cached by the query's shape and the statement stays prepared on the connection,
+   * so repeated queries only need to rebind their parameters.
+   * @param conn Connection to prepare the statement on
+   * @param query Query builder to build from, leave at null to have no WHERE clause
+   * @param onlyFirst Whether to only query for the first result
+   * @param onlyCount Whether to only count the number of results instead of fetching the actual data,
+   *                  combined with onlyFirst to only check whether there's any result at all
+   * @param fields Fields to select, leave empty to select everything
+   * @return Built query statement with all parameters applied, which must not be closed
+   */
+  private<T extends APersistentModel> PreparedStatement buildQuery(
+    PooledConnection conn,
+    Class<T> model,
+    @Nullable QueryBuilder<?> query,
+    boolean onlyFirst,
+    boolean onlyCount,
+    boolean delete,
+    String ...fields
+  ) throws Exception {
+    MysqlTable table = getTableFromModel(model, false);
     List<Tuple<MysqlType, Object>> params = new ArrayList<>();
 
+    String shape = buildQueryShape(model, query, onlyFirst, onlyCount, delete, fields);
+    String sql;
+
+    synchronized (queryCache) {
+      sql = queryCache.get(shape);
+    }
+
+    // Known shape, only the parameters are required
+    if (sql != null) {
+      queryCacheHits.incrementAndGet();
+      collectQueryParams(table, query, onlyFirst, delete, params);
+    }
+
+    // Unknown shape, generate the SQL and remember it
+    else {
+      queryCacheMisses.incrementAndGet();
+      sql = generateQuery(model, table, query, onlyFirst, onlyCount, delete, params, fields);
+
+      synchronized (queryCache) {
+        queryCache.put(shape, sql);
+      }
+    }
+
+    PreparedStatement ps = conn.prepareCached(sql);
+
+    int i = 0;
+    for (Tuple<MysqlType, Object> param : params)
+      ps.setObject(++i, translateValue(param.getA(), param.getB()));
+
+    logStatement(ps);
+
+    return ps;
+  }
+
+  /**
+   * Generate the SQL text of a selecting query from a query builder's state
+   * @param model Model to query
+   * @param table Table of the model
+   * @param query Query builder to build from, leave at null to have no WHERE clause
+   * @param onlyFirst Whether to only query for the first result
+   * @param onlyCount Whether to only count the number of results instead of fetching the actual data,
+   *                  combined with onlyFirst to only check whether there's any result at all
+   * @param delete Whether to delete instead of select
+   * @param params Modifyable list of parameters to add the placeholder values to
+   * @param fields Fields to select, leave empty to select everything
+   * @return Generated SQL text
+   */
+  private<T extends APersistentModel> String generateQuery(
+    Class<T> model,
+    MysqlTable table,
+    @Nullable QueryBuilder<?> query,
+    boolean onlyFirst,
+    boolean onlyCount,
+    boolean delete,
+    List<Tuple<MysqlType, Object>> params,
+    String ...fields
+  ) {
+    StringBuilder stmt = new StringBuilder();
+
+    // Existence checks select a constant and don't care about the order of rows
+    boolean onlyExistence = onlyFirst && onlyCount;
+
+    // Stringify the order by clause ahead of time, as it may be required in SELECT as well as after WHERE
+    String orderBy = (query == null || query.getSorting().size() == 0) ? "" : "ORDER BY " + stringifySorting(table, query.getSorting());
+
+    // Row counters are only selected if not only the count is selected
+    List<Tuple<MysqlColumn, FieldAccessor>> rowCounters = (onlyCount || delete) ? List.of() : table.getPlan().getRowNumberReceivers();
+
+    // Selection mode
+    if (!delete) {
+      stmt.append("SELECT ");
+
+      if (onlyExistence)
+        stmt.append("1");
+
+      else if (onlyCount)
+        stmt.append("COUNT(*) AS `count`");
+
+      // Select all columns explicitly, so that they're at the ordinal the plan expects
+      else if (fields.length == 0) {
+        stmt.append(table.getPlan().getSelectList());
+
+        for (Tuple<MysqlColumn, FieldAccessor> rowCounter : rowCounters)
+          stmt.append(", `__ROW_NUMBER_").append(rowCounter.getA().getName().toUpperCase()).append('`');
+      }
+
+      else {
+        for (int i = 0; i < fields.length; i++) {
+          String field = fields[i];
+          String name = getColumnByName(table, field).getName();
+          stmt.append("`").append(name).append("`").append(i != fields.length - 1 ? ", " : "");
+        }
+      }
+    }
+
+    // Deletion mode
+    else
+      stmt.append("DELETE");
+
+    stmt.append(" FROM ");
+
+    // In order to get proper row numbers, select
+    // from a sub-query without the WHERE clause first
+    if (!rowCounters.isEmpty()) {
+      stmt.append("(").append("SELECT *");
+
+      // Add an individual row number counter for each row counter annotated in the model
+      for (Tuple<MysqlColumn, FieldAccessor> rowCounter : rowCounters) {
+        String name = rowCounter.getA().getName();
+
+        stmt.append(", ROW_NUMBER() OVER (PARTITION BY `").append(name).append("` ")
+          .append(orderBy)
+          .append(") AS __ROW_NUMBER_").append(name.toUpperCase());
+      }
+
+      stmt.append(" FROM `").append(table.getName()).append("` ")
+        .append(orderBy)
+        .append(") x");
+    }
+
+    // Not selecting row numbers, select directly from the target table
+    else
+      stmt.append("`").append(table.getName()).append("`");
+
     if (query != null) {
 
-      // Only append a where clause if there are field queries present
-      if (query.getRoot() != null) {
+      // Seeking only applies when reading
+      List<Tuple<MysqlColumn, Boolean>> seekOrder = (!delete && query.getSeekAnchor() != null) ? resolveSeekOrder(table, query) : null;
 
+      if (query.getRoot() != null || seekOrder != null)
         stmt.append(" WHERE ");
+
+      // Only append field queries if there are any present
+      if (query.getRoot() != null) {
+
+        // Parenthesize the field queries, as the seek predicate has to apply to all of them
+        if (seekOrder != null)
+          stmt.append("(");
+
         stmt.append(stringifyFieldQueryGroup(query.getRoot(), table, params));
 
         // Append all additional query groups with their connection leading them
@@ -1307,42 +2548,60 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
           stmt.append(" ").append(additional.getA()).append(" ");
           stmt.append(stringifyFieldQueryGroup(additional.getB(), table, params));
         }
+
+        if (seekOrder != null)
+          stmt.append(") AND ");
+      }
+
+      if (seekOrder != null) {
+        stmt.append(stringifySeekPredicate(seekOrder, query.isSeekBackwards()));
+        collectSeekParams(table, query, seekOrder, params);
       }
 
       // Only append limit/offset and ordering when reading
       if (!delete) {
-        if (query.getSorting().size() > 0)
-          stmt.append(" ").append(orderBy);
+        // Existence checks don't need any order, so the server may stop at the first match
+        if (!onlyExistence) {
+          // Seeking always needs a total order, which is walked in reverse when seeking backwards
+          if (seekOrder != null)
+            stmt.append(" ORDER BY ").append(stringifySeekOrder(seekOrder, query.isSeekBackwards()));
+
+          else if (query.getSorting().size() > 0)
+            stmt.append(" ").append(orderBy);
+        }
 
-        if (query.getLimit() != null || onlyFirst)
-          stmt.append(" LIMIT ").append(onlyFirst ? 1 : query.getLimit());
+        // Limits and offsets are parameters, so that they don't change the query's shape
+        if (onlyFirst)
+          stmt.append(" LIMIT 1");
+
+        else if (query.getLimit() != null) {
+          stmt.append(" LIMIT ?");
+          params.add(new Tuple<>(MysqlType.INTEGER, query.getLimit()));
+        }
 
-        if (query.getSkip() != null)
-          stmt.append(" OFFSET ").append(query.getSkip());
+        if (query.getSkip() != null) {
+          stmt.append(" OFFSET ?");
+          params.add(new Tuple<>(MysqlType.INTEGER, query.getSkip()));
+        }
       }
     }
 
-    PreparedStatement ps = conn.prepareStatement(stmt + ";");
-
-    int i = 0;
-    for (Tuple<MysqlType, Object> param : params)
-      ps.setObject(++i, translateValue(param.getA(), param.getB()));
-
-    logStatement(ps);
-
-    return ps;
+    // No trailing semicolon, as cached statements are prepared server-side
+    return stmt.toString();
   }
 
   ////////////////////////////////// Raw Reading //////////////////////////////////////
 
   /**
    * Read a ResultSet's rows of data as raw k-v pairs and collect these maps into a list
+   * @param conn Connection to query on
    * @param model Model used to represent the individual result rows
    * @param query Query builder to build from, leave at null to have no WHERE clause
    * @param properties Properties to select
    * @return List of raw k-v pairs, as many as available rows
    */
   private<T extends APersistentModel> List<Map<String, Object>> readRowsRaw(
+    PooledConnection conn,
     Class<T> model,
     @Nullable QueryBuilder<T> query,
     String[] properties
@@ -1350,65 +2609,217 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
     List<Map<String, Object>> res = new ArrayList<>();
     MysqlTable table = getTableFromModel(model, false);
 
-    PreparedStatement ps = buildQuery(model, query, false, false, false, properties);
+    // Resolve the selected columns once, rows are then read by their ordinal
+    MysqlColumn[] columns = resolveSelectedColumns(table, properties);
+
+    PreparedStatement ps = buildQuery(conn, model, query, false, false, false, properties);
     ResultSet rs = ps.executeQuery();
+    MysqlRowView view = new MysqlRowView(rs, columns, this::translateValue);
 
-    List<String> colNames = Arrays.stream(properties)
-      .map(this::modelNameToDBName)
-      .collect(Collectors.toList());
+    while(rs.next()) {
+      Map<String, Object> row = new HashMap<>(columns.length * 4 / 3 + 1);
 
-    while(rs.next())
-      res.add(readRowRaw(table, rs, colNames));
+      for (int i = 0; i < columns.length; i++)
+        row.put(columns[i].getName(), view.get(i));
 
-    rs.close();
-    ps.close();
+      res.add(row);
+    }
 
+    rs.close();
     return res;
   }
 
   /**
-   * Read an individual row (the one currently selected by the ResultSet's
-   * cursor) into a raw k-v map
+   * Resolve the columns of selected properties, in the order of their ordinals
    * @param table Table of the model reading from
-   * @param rs ResultSet containing the row to be mapped
-   * @param columns Selected columns that this ResultSet contains
-   * @return Model with fields containing the row's data
+   * @param properties Properties to select
+   * @return Selected columns
    */
-  private Map<String, Object> readRowRaw(MysqlTable table, ResultSet rs, List<String> columns) throws SQLException {
-   Map<String, Object> res = new HashMap<>();
+  private MysqlColumn[] resolveSelectedColumns(MysqlTable table, String[] properties) {
+    MysqlColumn[] columns = new MysqlColumn[properties.length];
 
-   for (String property : columns) {
-     MysqlColumn matchingCol = table.getColumns().stream()
-       .filter(col -> col.getName().equals(property))
-       .findFirst()
-       .orElseThrow(() -> new PersistenceException("Invalid column for reading raw: " + property));
+    for (int i = 0; i < properties.length; i++) {
+      MysqlColumn column = table.getPlan().getColumnByPropertyName().get(properties[i]);
 
-     res.put(property, translateValue(matchingCol.getType(), rs.getObject(property)));
-   }
+      if (column == null)
+        throw new PersistenceException("Invalid column for reading raw: " + properties[i]);
 
-   return res;
+      columns[i] = column;
+    }
+
+    return columns;
   }
 
-  ////////////////////////////////// Row Mapping //////////////////////////////////////
+  /**
+   * Read a ResultSet's rows of data column by column into arrays of the columns' primitive types.
+   * Rows are fetched through a server side cursor, so that only the arrays occupy memory.
+   * @param conn Connection to query on
+   * @param model Model used to represent the individual result rows
+   * @param query Query builder to build from, leave at null to have no WHERE clause
+   * @param properties Properties to select
+   * @return Columnar result, mapping the arrays by their property
+   */
+  private<T extends APersistentModel> ColumnarResult readColumnar(
+    PooledConnection conn,
+    Class<T> model,
+    @Nullable QueryBuilder<T> query,
+    String[] properties
+  ) throws Exception {
+    MysqlTable table = getTableFromModel(model, false);
+    MysqlColumn[] columns = resolveSelectedColumns(table, properties);
+
+    ColumnBuffer[] buffers = new ColumnBuffer[columns.length];
+    for (int i = 0; i < columns.length; i++)
+      buffers[i] = new ColumnBuffer(columns[i].getType());
+
+    PreparedStatement ps = buildQuery(conn, model, query, false, false, false, properties);
+    ps.setFetchSize(cursorFetchSize);
+    int size = 0;
+
+    try (ResultSet rs = ps.executeQuery()) {
+      while (rs.next()) {
+        for (int i = 0; i < buffers.length; i++)
+          buffers[i].read(rs, i + 1);
+        size++;
+      }
+    } finally {
+      // The statement is cached, so it has to fetch everything at once again
+      ps.setFetchSize(0);
+    }
+
+    Map<String, Object> arrays = new HashMap<>();
+    Map<String, BitSet> nulls = new HashMap<>();
+
+    for (int i = 0; i < properties.length; i++) {
+      arrays.put(properties[i], buffers[i].toArray());
+      nulls.put(properties[i], buffers[i].getNulls());
+    }
+
+    return new ColumnarResult(size, arrays, nulls);
+  }
+
+  ////////////////////////////////// Projections //////////////////////////////////////
 
   /**
-   * Create a new empty instance of a model by invoking it's hidden default constructor
-   * @param model Model to instantiate
-   * @return Instantiated model
+   * Get the plan of a projection onto a model, which is created on first use
+   * @param model Model to project
+   * @param projection Class to project into
+   * @return Plan of the projection
    */
-  private<T extends APersistentModel> T newEmpty(Class<T> model) throws Exception {
-    Constructor<T> ctor;
-    try {
-      ctor = model.getDeclaredConstructor();
-    } catch (NoSuchMethodException e) {
-      throw new PersistenceException("Model " + model + " provides no empty constructor");
+  private ProjectionPlan getProjectionPlan(Class<? extends APersistentModel> model, Class<?> projection) throws Exception {
+    String key = model.getName() + "|" + projection.getName();
+    ProjectionPlan plan = projectionPlans.get(key);
+
+    if (plan == null) {
+      plan = buildProjectionPlan(model, projection);
+      projectionPlans.put(key, plan);
+    }
+
+    return plan;
+  }
+
+  /**
+   * Resolve which columns of a model have to be selected for a projection and which of
+   * it's fields receive them. Fields are matched by name, where a transformed field selects
+   * all of it's inlined columns and receives the revived foreign value.
+   * @param model Model to project
+   * @param projection Class to project into
+   * @return Plan of the projection
+   */
+  private ProjectionPlan buildProjectionPlan(Class<? extends APersistentModel> model, Class<?> projection) throws Exception {
+    MysqlTable table = getTableFromModel(model, false);
+    ModelPlan plan = table.getPlan();
+
+    List<String> properties = new ArrayList<>();
+    List<MysqlColumn> columns = new ArrayList<>();
+    List<FieldAccessor> targets = new ArrayList<>();
+    List<InlinedField> inlinedFields = new ArrayList<>();
+
+    for (Field f : getAllFields(projection)) {
+      if (Modifier.isStatic(f.getModifiers()) || f.isSynthetic())
+        continue;
+
+      MysqlColumn column = plan.getColumnByPropertyName().get(f.getName());
+
+      // Plain column, read directly into the field
+      if (column != null && column.getTransformer() == null) {
+        properties.add(f.getName());
+        columns.add(column);
+        targets.add(new FieldAccessor(f));
+        continue;
+      }
+
+      InlinedField inlined = plan.getInlinedFields().stream()
+        .filter(i -> i.getAccessor().getField().getName().equals(f.getName()))
+        .findFirst()
+        .orElseThrow(() -> new PersistenceException(
+          "The projected field " + f.getName() + " is not a member of the model " + model.getSimpleName()
+        ));
+
+      // Select all inlined columns and remember where they landed within the selection
+      int[] indices = new int[inlined.getColumnIndices().length];
+      for (int i = 0; i < indices.length; i++) {
+        MysqlColumn inlinedColumn = plan.getColumns()[inlined.getColumnIndices()[i]];
+        indices[i] = columns.size();
+        properties.add(dbNameToModelName(inlinedColumn.getName(), false));
+        columns.add(inlinedColumn);
+        targets.add(null);
+      }
+
+      inlinedFields.add(new InlinedField(new FieldAccessor(f), inlined.getTransformer(), inlined.getKnownPlan(), indices));
+    }
+
+    if (columns.isEmpty())
+      throw new PersistenceException("The projection " + projection.getSimpleName() + " contains no fields of the model " + model.getSimpleName());
+
+    return new ProjectionPlan(
+      projection,
+      properties.toArray(new String[0]),
+      columns.toArray(new MysqlColumn[0]),
+      targets.toArray(new FieldAccessor[0]),
+      inlinedFields
+    );
+  }
+
+  /**
+   * Maps an individual row (the one currently selected by the ResultSet's
+   * cursor) into a new instance of a projection
+   * @param plan Plan of the projection
+   * @param rs ResultSet containing the row to be mapped
+   * @return Projection with fields containing the row's data
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private Object mapProjectedRow(ProjectionPlan plan, ResultSet rs) throws Exception {
+    MysqlColumn[] columns = plan.getColumns();
+    FieldAccessor[] targets = plan.getTargets();
+    Object inst = plan.instantiate();
+
+    for (int i = 0; i < columns.length; i++) {
+      FieldAccessor target = targets[i];
+
+      // Inlined column, revived below
+      if (target == null)
+        continue;
+
+      MysqlColumn col = columns[i];
+      Object value = col.getType() == MysqlType.UUID ? rs.getBytes(i + 1) : rs.getObject(i + 1);
+
+      // Revive enum fields
+      Class<?> enumType = plan.getEnumTypes()[i];
+      if (enumType != null && value instanceof String)
+        value = Enum.valueOf((Class<Enum>) enumType, (String) value);
+
+      target.set(inst, translateValue(col.getType(), value));
     }
 
-    // Create a new empty object from the hidden empty constructor
-    ctor.setAccessible(true);
-    return ctor.newInstance();
+    for (InlinedField inlined : plan.getInlinedFields())
+      inlined.getAccessor().set(inst, reviveInlinedField(inlined, columns, rs, null));
+
+    return inst;
   }
 
+  ////////////////////////////////// Row Mapping //////////////////////////////////////
+
   /**
    * Translate a value into the corresponding used java-type as
    * specified by the enum {@link MysqlType}
@@ -1423,14 +2834,12 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
 
     if (type == MysqlType.UUID) {
       // Turn byte[]'s (binary columns) into UUIDs when reading
-      if (value instanceof byte[]) {
-        ByteBuffer bb = ByteBuffer.wrap((byte[]) value);
-        value = new UUID(bb.getLong(), bb.getLong());
-      }
+      if (value instanceof byte[])
+        value = UuidCodec.fromBytes((byte[]) value);
 
-      // Stringify UUIDs when writing
-      else
-        value = value.toString();
+      // Bind UUIDs as raw bytes when writing, wildcard patterns stay strings
+      else if (value instanceof UUID)
+        value = UuidCodec.toBytes((UUID) value);
     }
 
     // Turn the driver's LocalDateTime into java's default Date
@@ -1445,423 +2854,1387 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
 
   /**
    * Maps an individual row (the one currently selected by the ResultSet's
-   * cursor) into it's corresponding model
+   * cursor) into it's corresponding model. Walks the model's plan in a single pass
+   * and reads columns by their ordinal, which requires a full selection.
    * @param model Model used to represent the row of data
    * @param rs ResultSet containing the row to be mapped
+   * @param track Whether to remember the values as read, so that the next write only updates
+   *              changed columns, which is not worth it for rows that are streamed through
    * @return Model with fields containing the row's data
    */
-  @SuppressWarnings({"unchecked", "rawtypes"})
-  private<T extends APersistentModel> T mapRow(
-    Class<T> model,
-    ResultSet rs
-  ) throws Exception {
-    MysqlTable table = getTableFromModel(model, false);
-    List<MysqlColumn> remainingColumns = new ArrayList<>(table.getColumns());
-    T inst = newEmpty(model);
-
-    // Loop while there are still columns left to be mapped
-    while (remainingColumns.size() > 0) {
-      MysqlColumn col = remainingColumns.get(0);
-      Field knownField = col.getKnownModelField();
-
-      // This column requires a transformer
-      if (knownField != null) {
-        // Create a new instance of the transformed field's declaring class
-        Class<? extends APersistentModel> knownModel = (Class<? extends APersistentModel>) knownField.getDeclaringClass();
-        MysqlTable knownTable = getTableFromModel(knownModel, true);
-        Object knownInst = newEmpty(knownModel);
-        boolean knownHasNullFields = false;
-
-        // Loop all columns from the known table and set the known instance's fields accordingly
-        for (MysqlColumn knownCol : knownTable.getColumns()) {
-          MysqlColumn targRemCol = remainingColumns.stream()
-            .filter(rc ->
-              rc.getKnownModelField() != null &&
-              rc.getKnownModelField().equals(knownCol.getModelField())
-            ).findFirst().orElse(null);
-
-          // This column doesn't seem to be mapped
-          if (targRemCol == null)
-            continue;
-
-          // Directly set the known model's field value to the corresponding column's value
-          Object value = translateValue(col.getType(), rs.getObject(targRemCol.getName()));
-
-          if (value == null)
-            knownHasNullFields = true;
-          else {
-            // Invoke lifecycle hook
-            inst.afterParsing();
-            knownCol.getModelField().set(knownInst, value);
-          }
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private<T extends APersistentModel> T mapRow(
+    Class<T> model,
+    ResultSet rs,
+    boolean track
+  ) throws Exception {
+    MysqlTable table = getTableFromModel(model, false);
+    ModelPlan plan = table.getPlan();
+    MysqlColumn[] columns = plan.getColumns();
+    T inst = model.cast(plan.instantiate());
+    Object[] state = track ? new Object[plan.getSnapshotLength()] : null;
+
+    // Directly set the model's field values to their corresponding column's value
+    for (int index : plan.getPlainColumns()) {
+      MysqlColumn col = columns[index];
+
+      // Binary columns are read as their raw bytes, without any detour
+      Object value = col.getType() == MysqlType.UUID ? rs.getBytes(index + 1) : rs.getObject(index + 1);
+
+      // Revive enum fields
+      Class<?> enumType = plan.getEnumTypes()[index];
+      if (enumType != null && value instanceof String)
+        value = Enum.valueOf((Class<Enum>) enumType, (String) value);
+
+      value = translateValue(col.getType(), value);
+      col.getAccessor().set(inst, value);
+
+      if (state != null)
+        state[index] = snapshotValue(value);
+    }
+
+    // Collect the inlined columns of transformed fields into their known model
+    List<InlinedField> inlinedFields = plan.getInlinedFields();
+    for (int i = 0; i < inlinedFields.size(); i++) {
+      InlinedField inlined = inlinedFields.get(i);
+      Object value = reviveInlinedField(inlined, columns, rs, state);
+      inlined.getAccessor().set(inst, value);
+
+      if (state != null)
+        state[plan.getForeignSnapshotIndex(i)] = callTransformerSnapshot(inlined.getTransformer(), value);
+    }
+
+    // Loop all row counter receivers and set their value, which are selected right after the columns
+    List<Tuple<MysqlColumn, FieldAccessor>> rowCounters = table.getPlan().getRowNumberReceivers();
+    for (int i = 0; i < rowCounters.size(); i++) {
+      FieldAccessor receiver = rowCounters.get(i).getB();
+
+      try {
+        receiver.set(inst, rs.getInt(table.getPlan().getRowNumberOrdinal(i)));
+      } catch (SQLException e) {
+        receiver.set(inst, -1);
+        logger.logError(e);
+      }
+    }
+
+    // Remember the state as read, before the lifecycle hook gets to alter it
+    if (state != null)
+      inst.setPersistenceSnapshot(state);
+
+    // Invoke lifecycle hook
+    inst.afterParsing();
+
+    return inst;
+  }
+
+  /**
+   * Collect the inlined columns of a transformed field into it's known model
+   * and revive the foreign value from it
+   * @param inlined Transformed field to revive
+   * @param columns Selected columns, which the inlined column indices point into
+   * @param rs ResultSet containing the row to be mapped
+   * @param state Column values as read, indexed like the columns, null if they're not tracked
+   * @return Revived foreign value, null if any of the inlined columns is null
+   */
+  private @Nullable Object reviveInlinedField(
+    InlinedField inlined,
+    MysqlColumn[] columns,
+    ResultSet rs,
+    @Nullable Object[] state
+  ) throws Exception {
+    APersistentModel knownInst = inlined.getKnownPlan().instantiate();
+    boolean knownHasNullFields = false;
+
+    for (int index : inlined.getColumnIndices()) {
+      MysqlColumn col = columns[index];
+      Object value = col.getType() == MysqlType.UUID
+        ? UuidCodec.fromBytes(rs.getBytes(index + 1))
+        : translateValue(col.getType(), rs.getObject(index + 1));
+
+      if (state != null)
+        state[index] = snapshotValue(value);
+
+      if (value == null) {
+        knownHasNullFields = true;
+
+        // The remaining columns only matter for the snapshot
+        if (state == null)
+          break;
+
+        continue;
+      }
+
+      if (!knownHasNullFields)
+        col.getKnownAccessor().set(knownInst, value);
+    }
+
+    // If any of the transformed field's is null, the whole known model becomes null, otherwise
+    // call the reviver on this known model to receive the foreign value
+    return knownHasNullFields ? null : callTransformerRevive(inlined.getTransformer(), knownInst);
+  }
+
+  /**
+   * Open a cursor which fetches the rows of a query through a server side cursor in chunks
+   * of the fetch size and maps them lazily. The cursor keeps it's connection borrowed.
+   * @param model Model used to represent the individual result rows
+   * @param query Query builder to build from, leave at null to have no WHERE clause
+   * @param fetchSize Number of rows to fetch at once
+   * @return Opened cursor
+   */
+  private<T extends APersistentModel> ICursor<T> openCursor(
+    Class<T> model,
+    @Nullable QueryBuilder<T> query,
+    int fetchSize
+  ) throws PersistenceException {
+    PooledConnection conn = null;
+
+    try {
+      conn = pool.borrow();
+
+      PreparedStatement ps = buildQuery(conn, model, query, false, false, false);
+      ps.setFetchSize(fetchSize);
+      logStatement(ps);
+
+      ResultSet rs;
+      try {
+        rs = ps.executeQuery();
+      } catch (SQLException e) {
+        ps.setFetchSize(0);
+        throw e;
+      }
+
+      return new MysqlCursor<>(conn, ps, rs, () -> mapRow(model, rs, false), logger);
+    } catch (PersistenceException e) {
+      if (conn != null)
+        conn.close();
+      throw e;
+    } catch (Exception e) {
+      if (conn != null)
+        conn.close();
+      logger.logError(e);
+      throw new PersistenceException("An internal error occurred");
+    }
+  }
+
+  /**
+   * Map a ResultSet's rows of data to the corresponding models and use transformers where necessary
+   * @param model Model used to represent the individual result rows
+   * @param rs ResultSet containing all the rows
+   * @return List of models, as many as available rows
+   */
+  private<T extends APersistentModel> List<T> mapRows(Class<T> model, ResultSet rs) throws Exception {
+    List<T> res = new ArrayList<>();
+
+    while (rs.next())
+      res.add(mapRow(model, rs, true));
+
+    return res;
+  }
+
+  /**
+   * Find all models that match a query, in the query's order. Backwards seeks
+   * walk the order in reverse and are flipped back into it before returning.
+   * @param conn Connection to query on
+   * @param query Query to execute
+   * @return List of models
+   */
+  private<T extends APersistentModel> List<T> findSeeking(PooledConnection conn, QueryBuilder<T> query) throws Exception {
+    PreparedStatement ps = buildQuery(conn, query.getModel(), query, false, false, false);
+    ResultSet rs = ps.executeQuery();
+    List<T> res = mapRows(query.getModel(), rs);
+    rs.close();
+
+    if (query.getSeekAnchor() != null && query.isSeekBackwards())
+      Collections.reverse(res);
+
+    return res;
+  }
+
+  //////////////////////////////////// Deletion ////////////////////////////////////////
+
+  /**
+   * Delete existing models from the database by their ID. Ids are bound in fixed-size
+   * chunks, where a few chunks at a time are committed together, followed by a short pause
+   * before the next transaction, in order to keep lock times and replication lag low.
+   * @param conn Connection to delete on
+   * @param ids IDs of the models to delete
+   * @param progress Invoked after every chunk, optional
+   * @return Number of affected rows
+   */
+  private int deleteModel(
+    PooledConnection conn,
+    Class<? extends APersistentModel> type,
+    List<UUID> ids,
+    @Nullable Consumer<DeleteProgress> progress
+  ) throws Exception {
+    MysqlTable table = getTableFromModel(type, false);
+
+    // Models which never have been persisted have nothing to delete
+    List<UUID> targets = ids.stream().filter(Objects::nonNull).collect(Collectors.toList());
+
+    Connection c = conn.getConnection();
+    boolean isTransaction = targets.size() > deleteChunkSize;
+    int aff = 0, chunks = 0;
+
+    if (isTransaction)
+      c.setAutoCommit(false);
+
+    try {
+      for (int start = 0; start < targets.size(); start += deleteChunkSize) {
+        List<UUID> chunk = targets.subList(start, Math.min(start + deleteChunkSize, targets.size()));
+        aff += deleteChunk(conn, table, chunk);
+
+        if (progress != null)
+          progress.accept(new DeleteProgress(start + chunk.size(), targets.size(), aff));
+
+        boolean isLast = start + chunk.size() >= targets.size();
+
+        // Commit every few chunks and give other transactions some room in between
+        if (isTransaction && (++chunks % deleteChunksPerTransaction == 0 || isLast)) {
+          c.commit();
+
+          if (!isLast && deletePauseMs > 0)
+            Thread.sleep(deletePauseMs);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new PersistenceException("Interrupted after deleting " + aff + " rows");
+    } catch (Exception e) {
+      if (isTransaction)
+        c.rollback();
+      throw e;
+    } finally {
+      if (isTransaction)
+        c.setAutoCommit(true);
+    }
+
+    return aff;
+  }
+
+  /**
+   * Delete a single chunk of models by their ID
+   * @param conn Connection to delete on
+   * @param table Table to delete from
+   * @param chunk IDs of the models to delete, at most one chunk size
+   * @return Number of affected rows
+   */
+  private int deleteChunk(PooledConnection conn, MysqlTable table, List<UUID> chunk) throws SQLException {
+    // Pad to a power of two by repeating the last id, see findByIds
+    int slots = Math.min(deleteChunkSize, Integer.highestOneBit(chunk.size() * 2 - 1));
+    String key = "delete|" + table.getName() + "|" + slots;
+    String sql;
+
+    synchronized (queryCache) {
+      sql = queryCache.get(key);
+    }
+
+    if (sql == null) {
+      StringBuilder stmt = new StringBuilder("DELETE FROM `").append(table.getName()).append("` WHERE `id` IN (");
+      for (int i = 0; i < slots; i++)
+        stmt.append(i == 0 ? "?" : ", ?");
+      sql = stmt.append(")").toString();
+
+      synchronized (queryCache) {
+        queryCache.put(key, sql);
+      }
+    }
+
+    PreparedStatement ps = conn.prepareCached(sql);
+
+    for (int i = 0; i < slots; i++)
+      ps.setBytes(i + 1, UuidCodec.toBytes(chunk.get(Math.min(i, chunk.size() - 1))));
+
+    logStatement(ps);
+    return ps.executeUpdate();
+  }
+
+  //////////////////////////////////// Updating ////////////////////////////////////////
+
+  /**
+   * Build an atomic update statement from a query and a map of field updates. The
+   * SQL text is cached by the query's shape and the shape of the updates.
+   * @param conn Connection to prepare the statement on
+   * @param query Query that specifies what to update
+   * @param updates Updates mapped by the name of the field they apply to
+   * @return Built statement with all parameters applied, which must not be closed
+   */
+  private PreparedStatement buildUpdateQuery(
+    PooledConnection conn,
+    QueryBuilder<?> query,
+    Map<String, FieldUpdate> updates
+  ) throws Exception {
+    MysqlTable table = getTableFromModel(query.getModel(), false);
+    ModelPlan plan = table.getPlan();
+    List<Tuple<MysqlType, Object>> params = new ArrayList<>();
+    List<Tuple<MysqlColumn, FieldUpdate>> assignments = resolveFieldUpdates(table, updates);
+
+    StringBuilder shape = new StringBuilder("update|")
+      .append(buildQueryShape(query.getModel(), query, false, false, true, new String[0]))
+      .append('|');
+
+    for (Tuple<MysqlColumn, FieldUpdate> assignment : assignments) {
+      shape.append(assignment.getA().getName()).append(' ').append(assignment.getB().getOp())
+        .append(assignment.getB().getValue() == null ? " null" : "").append(',');
+    }
+
+    // The SET clause binds it's parameters ahead of the WHERE clause
+    boolean touchesUpdatedAt = false;
+    for (Tuple<MysqlColumn, FieldUpdate> assignment : assignments) {
+      collectFieldUpdateParam(assignment.getA(), assignment.getB(), params);
+      touchesUpdatedAt |= assignment.getA().getName().equals("updated_at");
+    }
+
+    // Keep the update timestamp current, just like regular stores do
+    boolean setsUpdatedAt = !touchesUpdatedAt && plan.getUpdatedAtIndex() >= 0;
+    if (setsUpdatedAt)
+      params.add(new Tuple<>(MysqlType.DATETIME, new Date()));
+
+    String key = shape.toString();
+    String sql;
+
+    synchronized (queryCache) {
+      sql = queryCache.get(key);
+    }
+
+    if (sql != null) {
+      queryCacheHits.incrementAndGet();
+      collectQueryParams(table, query, false, true, params);
+    }
+
+    else {
+      queryCacheMisses.incrementAndGet();
+
+      StringBuilder stmt = new StringBuilder("UPDATE `").append(table.getName()).append("` SET ");
+      boolean first = true;
+
+      for (Tuple<MysqlColumn, FieldUpdate> assignment : assignments) {
+        if (!first)
+          stmt.append(", ");
+
+        first = false;
+        stmt.append(stringifyFieldUpdate(assignment.getA(), assignment.getB()));
+      }
+
+      if (setsUpdatedAt)
+        stmt.append(", `updated_at` = ?");
+
+      if (query.getRoot() != null) {
+        stmt.append(" WHERE ").append(stringifyFieldQueryGroup(query.getRoot(), table, params));
+
+        for (Tuple<QueryConnection, FieldQueryGroup> additional : query.getAdditionals()) {
+          stmt.append(" ").append(additional.getA()).append(" ");
+          stmt.append(stringifyFieldQueryGroup(additional.getB(), table, params));
+        }
+      }
+
+      sql = stmt.toString();
+
+      synchronized (queryCache) {
+        queryCache.put(key, sql);
+      }
+    }
+
+    PreparedStatement ps = conn.prepareCached(sql);
+
+    int i = 0;
+    for (Tuple<MysqlType, Object> param : params)
+      ps.setObject(++i, translateValue(param.getA(), param.getB()));
+
+    logStatement(ps);
+
+    return ps;
+  }
+
+  /**
+   * Resolve field updates into the column assignments they consist of. Plain fields map
+   * to their column, while transformed fields are assigned as a whole: their value is
+   * replaced into it's known model once and each inlined column gets it's part of it.
+   * @param table Table to update
+   * @param updates Updates mapped by the name of the field they apply to
+   * @return Columns and the updates assigned to them
+   */
+  private List<Tuple<MysqlColumn, FieldUpdate>> resolveFieldUpdates(MysqlTable table, Map<String, FieldUpdate> updates) {
+    List<Tuple<MysqlColumn, FieldUpdate>> res = new ArrayList<>();
+
+    for (Map.Entry<String, FieldUpdate> update : updates.entrySet()) {
+      String field = update.getKey();
+      FieldUpdate fieldUpdate = update.getValue();
+      MysqlColumn column = table.getPlan().getColumnByPropertyName().get(field);
+
+      if (column != null) {
+        if (column.getTransformer() != null)
+          throw new PersistenceException("The inlined field " + field + " can only be updated by assigning it's transformed field as a whole");
+
+        res.add(new Tuple<>(column, fieldUpdate));
+        continue;
+      }
+
+      List<MysqlColumn> inlined = table.getColumns().stream()
+        .filter(c -> c.getTransformer() != null && c.getModelField().getName().equals(field))
+        .collect(Collectors.toList());
+
+      // Not a transformed field either, report it as an unknown field
+      if (inlined.isEmpty()) {
+        getColumnByName(table, field);
+        continue;
+      }
+
+      IDataTransformer<?, ?> transformer = inlined.get(0).getTransformer();
+      Object value = fieldUpdate.getValue();
+
+      if (fieldUpdate.getOp() != null)
+        throw new PersistenceException("The transformed field " + field + " doesn't support field operations");
+
+      if (value != null && !transformer.getForeignClass().isInstance(value))
+        throw new PersistenceException("The field " + field + " is of invalid type " + value.getClass());
+
+      Object replaced = value == null ? null : callTransformerReplace(transformer, value);
+
+      for (MysqlColumn col : inlined)
+        res.add(new Tuple<>(col, FieldUpdate.set(replaced == null ? null : col.getKnownAccessor().get(replaced))));
+    }
+
+    return res;
+  }
+
+  /**
+   * Validate a column assignment and collect it's parameter
+   * @param column Column to update
+   * @param update Update to apply
+   * @param params Modifyable list of parameters to add to
+   */
+  private void collectFieldUpdateParam(
+    MysqlColumn column,
+    FieldUpdate update,
+    List<Tuple<MysqlType, Object>> params
+  ) {
+    String field = column.getName();
+    Object value = update.getValue();
+
+    if (column.isPrimaryKey() || column.getName().equals("created_at"))
+      throw new PersistenceException("The field " + field + " cannot be updated");
+
+    // Enums are stored by their name
+    if (value instanceof Enum<?>)
+      value = ((Enum<?>) value).name();
+
+    if (value == null) {
+      if (!column.isNullable())
+        throw new PersistenceException("The field " + field + " is not nullable");
+    }
+
+    else if (update.getOp() != null) {
+      // Throws on non-numeric columns
+      wrapColumnForOp(column);
+
+      if (column.getType() == MysqlType.DATETIME)
+        throw new PersistenceException("The type " + column.getType() + " doesn't support field operations within updates");
+
+      validateQueryFieldType(column, field, value, true, false);
+    }
+
+    else if (!(value instanceof String && column.getModelField().getType().isEnum()))
+      validateQueryFieldType(column, field, value, false, false);
+
+    params.add(new Tuple<>(column.getType(), value));
+  }
+
+  /**
+   * Stringify a field update into it's assignment, for example: `a` = `a` + ?
+   * @param column Column to update
+   * @param update Update to apply
+   * @return Stringified assignment
+   */
+  private String stringifyFieldUpdate(MysqlColumn column, FieldUpdate update) {
+    String name = "`" + column.getName() + "`";
+
+    if (update.getOp() == null)
+      return name + " = ?";
+
+    boolean isIntegral = column.getType() == MysqlType.INTEGER || column.getType() == MysqlType.LONG;
+
+    // Integral columns divide like java does, instead of rounding a decimal result
+    String op = (isIntegral && update.getOp() == FieldOperation.DIVIDE) ? "DIV" : update.getOp().toString();
+
+    return name + " = " + name + " " + op + " ?";
+  }
+
+  //////////////////////////////////// Writing ////////////////////////////////////////
+
+  /**
+   * Tries to resolve a transformed column into it's value after the
+   * transformation has been applied
+   * @param column Column to be transformed
+   * @param model Model containing the data to transform in one of the fields
+   * @param replaceCache Writeable cache used to store replace() results in and access
+   *                     them over the (possibly) multiple field accesses of a transformed result
+   * @return Transformed object on transformed columns, column's vanilla value otherwise
+   */
+  private Object resolveColumnValue(
+    MysqlColumn column,
+    APersistentModel model,
+    Map<String, Object> replaceCache
+  ) throws Exception {
+    Object value = column.getAccessor().get(model);
+    FieldAccessor knownAccessor = column.getKnownAccessor();
+    IDataTransformer<?, ?> transformer = column.getTransformer();
+
+    // This column is not bein transformed
+    if (knownAccessor == null || transformer == null)
+      return value;
+
+    // Format: <field>__<inlined_field>
+    String fieldName = column.getName().split("__")[0];
+
+    // Only compute the replace if there's no cache entry yet
+    Object replaced = replaceCache.get(fieldName);
+    if (!replaceCache.containsKey(fieldName)) {
+      replaced = callTransformerReplace(transformer, value);
+      replaceCache.put(fieldName, replaced);
+    }
+
+    // The replacer returned null, thus all of it's fields are null
+    if (replaced == null)
+      return null;
+
+    // Get the transformer column's value from the model the value just got replaced into
+    return knownAccessor.get(replaced);
+  }
+
+  /**
+   * Check for duplicate keys of a model's unique columns and throw an exception on occurrence
+   * @param model Model to check for
+   * @param table Table that corresponds to this model
+   * @param replaceCache Writeable cache used to store replace() results in and access
+   *                     them over the (possibly) multiple field accesses of a transformed result
+   */
+  private void checkDuplicateKeys(
+    APersistentModel model,
+    MysqlTable table,
+    Map<String, Object> replaceCache
+  ) throws Exception {
+
+    QueryBuilder<?> query = new QueryBuilder<>(model.getClass());
+    List<Tuple<String, Object>> uniqueVals = new ArrayList<>();
+
+    List<MysqlColumn> columns = table.getColumns().stream()
+      .filter(c -> !c.isPrimaryKey())
+      .filter(MysqlColumn::isUnique)
+      .collect(Collectors.toList());
+
+    // Has no unique columns
+    if (columns.size() == 0)
+      return;
+
+    // Loop all unique keys
+    for (MysqlColumn column : columns) {
+      if (column.isPrimaryKey() || !column.isUnique())
+        continue;
+
+      // String columns that are unique are always ignoring the casing
+      EqualityOperation op = EqualityOperation.EQ;
+      if (column.getType() == MysqlType.VARCHAR || column.getType() == MysqlType.TEXT)
+        op = EqualityOperation.EQ_IC;
+
+      Object value = resolveColumnValue(column, model, replaceCache);
+      String colname = dbNameToModelName(column.getName(), false);
+      query.and(colname, op, value);
+      uniqueVals.add(new Tuple<>(colname, value));
+    }
+
+    // And is not self (on updates)
+    if (model.getId() != null)
+      query.and("id", EqualityOperation.NEQ, model.getId());
+
+    // There's already a column with this unique field
+    if (count(query) > 0)
+      throw new DuplicatePropertyException(dbNameToModelName(table.getName(), true), uniqueVals);
+  }
+
+  /**
+   * Get a model's corresponding parsed table
+   * @param model Model class
+   * @param allowTransformers Whether to allow transformer models
+   * @return Table instance
+   * @throws PersistenceException Model not known
+   */
+  private MysqlTable getTableFromModel(Class<?> model, boolean allowTransformers) throws PersistenceException {
+    MysqlTable table = tables.get(model);
+
+    if (table == null)
+      throw new PersistenceException("The model " + model.getSimpleName() + " is not registered!");
+
+    if (!allowTransformers && table.isTransformer())
+      throw new PersistenceException("Cannot directly write transformers: " + model.getSimpleName());
+
+    return table;
+  }
+
+  /**
+   * Build the parameterized statement which writes a single row of a table,
+   * where updates expect the row's id as their last parameter
+   * @param table Table to write to
+   * @param isInsert Whether to insert a new row or update an existing row
+   * @param updated Indices of the columns to update, null means all columns
+   * @return Built statement
+   */
+  private String buildModelWriteQuery(MysqlTable table, boolean isInsert, @Nullable BitSet updated) {
+    List<MysqlColumn> columns = table.getColumns();
+
+    StringBuilder stmt = new StringBuilder(
+      isInsert ? "INSERT INTO `" + table.getName() + "` (" : "UPDATE `" + table.getName() + "` SET "
+    );
+
+    // Append a list of column names, in the order they appear in the list
+    boolean first = true;
+    for (int i = 0; i < columns.size(); i++) {
+      MysqlColumn column = columns.get(i);
+
+      // Primary keys are never updated
+      if (!isInsert && column.isPrimaryKey())
+        continue;
+
+      // Skip unchanged columns
+      if (!isInsert && updated != null && !updated.get(i))
+        continue;
+
+      if (!first)
+        stmt.append(", ");
+
+      first = false;
+      stmt
+        .append("`")
+        .append(column.getName())
+        .append("`");
+
+      // Also add a placeholder when updating
+      if (!isInsert)
+        stmt.append(" = ?");
+    }
+
+    // Append VALUES clause only for insertions
+    if (isInsert)
+      stmt.append(") VALUES ").append(buildInsertRowPlaceholders(table));
+
+    // Append an update filter
+    else
+      stmt.append(" WHERE `id` = ?");
+
+    return stmt.toString();
+  }
+
+  /**
+   * Build the placeholder group of a single inserted row, for example: (?, ?, ?)
+   * @param table Table to insert into
+   * @return Placeholder group
+   */
+  private String buildInsertRowPlaceholders(MysqlTable table) {
+    List<MysqlColumn> columns = table.getColumns();
+    StringBuilder row = new StringBuilder("(");
+
+    for (int i = 0; i < columns.size(); i++)
+      row.append('?').append(i == columns.size() - 1 ? ")" : ", ");
+
+    return row.toString();
+  }
+
+  /**
+   * Build an insert statement which writes multiple rows at once, for example:
+   * INSERT INTO `table` (`a`, `b`) VALUES (?, ?), (?, ?). The SQL text is cached
+   * per table and row count, as full chunks always share the same count.
+   * @param table Table to insert into
+   * @param numRows Number of rows to insert
+   * @return Built statement
+   */
+  private String buildMultiRowInsertQuery(MysqlTable table, int numRows) {
+    String key = "insert|" + table.getName() + "|" + numRows;
+
+    synchronized (queryCache) {
+      String sql = queryCache.get(key);
+      if (sql != null)
+        return sql;
+    }
+
+    String single = buildModelWriteQuery(table, true, null);
+    String placeholders = buildInsertRowPlaceholders(table);
+    StringBuilder stmt = new StringBuilder(single.length() + (placeholders.length() + 2) * (numRows - 1));
+    stmt.append(single);
+
+    for (int i = 1; i < numRows; i++)
+      stmt.append(", ").append(placeholders);
+
+    String sql = stmt.toString();
+
+    synchronized (queryCache) {
+      queryCache.put(key, sql);
+    }
+
+    return sql;
+  }
+
+  /**
+   * Resolve all parameters of a model's write statement in the order that
+   * {@link #buildModelWriteQuery} expects them to be in. Generates the id of new
+   * models and keeps the timestamps of the model up to date.
+   * @param model Model to resolve
+   * @param table Table of the model
+   * @param isInsert Whether the row will be inserted or updated
+   * @param updated Indices of the columns to update, null means all columns
+   * @param replaceCache Cache of replace() results, shared with change detection
+   * @param state Receives the value of every bound column at it's index, which becomes
+   *              the model's snapshot, as it's exactly what the row will contain
+   * @return Parameters of the statement
+   */
+  private Object[] resolveWriteParams(
+    APersistentModel model,
+    MysqlTable table,
+    boolean isInsert,
+    @Nullable BitSet updated,
+    Map<String, Object> replaceCache,
+    Object[] state
+  ) throws Exception {
+    List<MysqlColumn> columns = table.getColumns();
+
+    // Upserts of already persisted models are inserts as well, which keep their identity
+    boolean isNew = model.getId() == null;
+
+    // Ensure that there are no duplicate keys
+    // TODO: Read duplicate keys from exception to allow for faster batch insertion
+    // checkDuplicateKeys(model, table, replaceCache);
+
+    // Transformed fields are all written, so they're remembered before being replaced,
+    // while updates of a snapshot have already been taken care of by change detection
+    if (isInsert || updated == null)
+      takeForeignSnapshots(table.getPlan(), model, state);
+
+    // Inserts bind every column, updates bind every updated non-PK column followed by the id
+    Object[] params = new Object[isInsert || updated == null ? columns.size() : updated.cardinality() + 1];
+    int i = 0;
+
+    for (int c = 0; c < columns.size(); c++) {
+      MysqlColumn column = columns.get(c);
+      Object value;
+
+      // Unchanged columns are neither bound nor replaced by their transformer
+      if (!isInsert && updated != null && !updated.get(c))
+        continue;
+
+      // Generate a new id for the PK
+      if (column.isPrimaryKey()) {
+
+        // Primary keys are never updated
+        if (!isInsert)
+          continue;
+
+        // Upserts may already carry an id, which is kept
+        value = model.getId() != null ? model.getId() : idGenerator.generate();
+        column.getAccessor().set(model, value);
+      }
+
+      // Generate created at timestamp on insertions of new models or set when missing otherwise
+      else if (
+        column.getName().equals("created_at") &&
+        ((isInsert && isNew) || model.getCreatedAt() == null)
+      ) {
+        value = new Date();
+        column.getAccessor().set(model, value);
+      }
+
+      // Updated at starts out as NULL for insertions or is updated on every update
+      else if (column.getName().equals("updated_at")) {
+        value = isInsert ? null : new Date();
+        column.getAccessor().set(model, value);
+      }
+
+      // Resolve the non-reserved column's value
+      else
+        value = resolveColumnValue(column, model, replaceCache);
+
+      state[c] = snapshotValue(value);
+
+      // UUIDs are always bound as their raw bytes
+      if (column.getType().equals(MysqlType.UUID) && value != null)
+        value = UuidCodec.toBytes((UUID) value);
+
+        // Save enums as a string by writing their constant's name
+      else if (value != null && column.getModelField().getType().isEnum())
+        value = ((Enum<?>) value).name();
+
+      params[i++] = value;
+    }
+
+    // The update filter's id comes last
+    if (!isInsert)
+      params[i] = UuidCodec.toBytes(model.getId());
+
+    return params;
+  }
+
+  /**
+   * Get buffered stores out of the way of models which are about to be upserted. Their own
+   * pending stores are dropped, as the upsert writes their whole state anyway, while pending
+   * stores of other models of the same types are written, as they might collide.
+   * @param models Models which are about to be upserted
+   */
+  private<T extends APersistentModel> void flushPending(List<T> models) {
+    if (writeBehind == null)
+      return;
+
+    Set<Class<? extends APersistentModel>> types = new LinkedHashSet<>();
+
+    for (T model : models) {
+      writeBehind.discard(WriteBehindBuffer.keyOf(model));
+      types.add(model.getClass());
+    }
+
+    for (Class<? extends APersistentModel> type : types)
+      writeBehind.flush(type);
+  }
+
+  /**
+   * Write a list of models right away on a borrowed connection
+   * @param models Models to write
+   */
+  private<T extends APersistentModel> void writeNow(List<T> models) throws PersistenceException {
+    try (PooledConnection conn = pool.borrow()) {
+      writeModels(conn, models);
+    } catch (PersistenceException e) {
+      throw e;
+    } catch (Exception e) {
+      logger.logError(e);
+      throw new PersistenceException("An internal error occurred");
+    }
+  }
+
+  /**
+   * Write a list of models, where models without an id are inserted and all others
+   * are updated. New rows are inserted first, grouped by their table as multi-row
+   * inserts, followed by the updates, grouped by their statement as JDBC batches.
+   * Groups are executed in order of their first appearance and multiple models are
+   * written within a single transaction.
+   * @param conn Connection to write on
+   * @param models Models to write
+   */
+  private<T extends APersistentModel> void writeModels(PooledConnection conn, List<T> models) throws Exception {
+    // Inserted parameter rows, grouped by their table
+    Map<MysqlTable, List<Object[]>> inserts = new LinkedHashMap<>();
+
+    // Updated parameter rows, grouped by their statement
+    Map<String, List<Object[]>> updates = new LinkedHashMap<>();
+
+    // Models which got an id assigned, as it has to be taken back on failure
+    List<T> inserted = new ArrayList<>();
+
+    // Models which are actually written, with the snapshot of what's being written
+    List<Tuple<T, Object[]>> written = new ArrayList<>();
+
+    try {
+      for (T model : models) {
+        MysqlTable table = getTableFromModel(model.getClass(), false);
+        Map<String, Object> replaceCache = new HashMap<>();
+        boolean isInsert = model.getId() == null;
+
+        if (isInsert) {
+          Object[] state = new Object[table.getPlan().getSnapshotLength()];
+          inserted.add(model);
+          inserts.computeIfAbsent(table, k -> new ArrayList<>()).add(resolveWriteParams(model, table, true, null, replaceCache, state));
+          written.add(new Tuple<>(model, state));
+          continue;
+        }
+
+        // Columns which are not updated keep their previous values
+        Object[] previous = model.getPersistenceSnapshot();
+        Object[] state = previous == null ? new Object[table.getPlan().getSnapshotLength()] : previous.clone();
+        BitSet changed = findChangedColumns(table, model, previous, state, replaceCache);
+
+        // Nothing changed since the model has last been read or written
+        if (changed != null && changed.isEmpty())
+          continue;
+
+        state[table.getPlan().getPrimaryKeyIndex()] = model.getId();
+
+        updates.computeIfAbsent(buildModelWriteQuery(table, false, changed), k -> new ArrayList<>())
+          .add(resolveWriteParams(model, table, false, changed, replaceCache, state));
+        written.add(new Tuple<>(model, state));
+      }
+
+      if (written.size() == 0)
+        return;
+
+      Connection c = conn.getConnection();
+      boolean isTransaction = models.size() > 1;
+
+      if (isTransaction)
+        c.setAutoCommit(false);
+
+      try {
+        for (Map.Entry<MysqlTable, List<Object[]>> insert : inserts.entrySet())
+          executeMultiRowInsert(conn, insert.getKey(), insert.getValue());
+
+        for (Map.Entry<String, List<Object[]>> update : updates.entrySet())
+          executeWriteBatch(conn, update.getKey(), update.getValue());
+
+        if (isTransaction)
+          c.commit();
+
+        for (Tuple<T, Object[]> model : written)
+          model.getA().setPersistenceSnapshot(model.getB());
+      } catch (Exception e) {
+        if (isTransaction)
+          c.rollback();
+        throw e;
+      } finally {
+        if (isTransaction)
+          c.setAutoCommit(true);
+      }
+    } catch (Exception e) {
+      // None of the new models have been persisted, so they're still new
+      for (T model : inserted) {
+        for (MysqlColumn column : getTableFromModel(model.getClass(), false).getColumns()) {
+          if (column.isPrimaryKey())
+            column.getAccessor().set(model, null);
+        }
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Insert multiple rows into a table using as few statements as possible, where
+   * each statement holds at most {@link #insertRowsPerStatement} rows and stays
+   * within the packet budget derived from the server's max_allowed_packet. Row counts
+   * are rounded down to powers of two, so that only a few distinct statements exist.
+   * @param conn Connection to write on
+   * @param table Table to insert into
+   * @param rows Parameter rows
+   */
+  private void executeMultiRowInsert(PooledConnection conn, MysqlTable table, List<Object[]> rows) throws SQLException {
+    // A single row doesn't need to be chunked
+    if (rows.size() == 1) {
+      executeWriteBatch(conn, buildModelWriteQuery(table, true, null), rows);
+      return;
+    }
 
-          remainingColumns.remove(targRemCol);
-        }
+    int numColumns = table.getColumns().size();
 
-        // If any of the transformed field's is null, the whole known model becomes null
-        if (knownHasNullFields)
-          col.getModelField().set (inst, null);
+    // Prepared statements are limited in their number of placeholders, where full
+    // statements are rounded down as well, to not get split up into remainders
+    int maxRows = Integer.highestOneBit(Math.max(1, Math.min(insertRowsPerStatement, MAX_PLACEHOLDERS / numColumns)));
+    long budget = (long) (maxPacketBytes * PACKET_BUDGET_RATIO);
 
-        // Call the reviver on this known model to receive the foreign value to write to the row's model
-        else {
-          IDataTransformer<?, ?> dt = getTransformerByKnownField(knownField);
-          col.getModelField().set(inst, callTransformerRevive(dt, knownInst));
-        }
+    int index = 0;
+    while (index < rows.size()) {
 
-        continue;
-      }
+      // Take as many rows as the limits allow, but at least one
+      int numRows = 0;
+      long bytes = 0;
 
-      Object value = rs.getObject(col.getName());
-      Class<?> fieldType = col.getModelField().getType();
+      while (index + numRows < rows.size() && numRows < maxRows) {
+        long rowBytes = estimateRowBytes(rows.get(index + numRows));
 
-      // Revive enum fields
-      if (fieldType.isEnum() && value instanceof String)
-        value = Enum.valueOf((Class<Enum>) fieldType, (String) value);
+        if (numRows > 0 && bytes + rowBytes > budget)
+          break;
 
-      // Directly set the model's field value to the corresponding column's value
-      col.getModelField().set(inst, translateValue(col.getType(), value));
-      remainingColumns.remove(col);
-    }
+        bytes += rowBytes;
+        numRows++;
+      }
 
-    // Find all row counter receivers of this model
-    List<Tuple<String, Field>> rowCounters = getAllFields(model).stream()
-      .filter(f -> f.isAnnotationPresent(RowNumber.class))
-      .map(f -> new Tuple<>(f.getAnnotation(RowNumber.class).partitionedBy(), f))
-      .collect(Collectors.toList());
+      // Remainders are split up into multiple statements instead of getting their own shape
+      numRows = Integer.highestOneBit(numRows);
 
-    // Loop all row counter receivers and set their value by their partition name
-    for (Tuple<String, Field> rowCounter : rowCounters) {
-      Field receiver = rowCounter.getB();
-      receiver.setAccessible(true);
+      PreparedStatement ps = conn.prepareCached(
+        numRows == 1 ? buildModelWriteQuery(table, true, null) : buildMultiRowInsertQuery(table, numRows)
+      );
 
-      try {
-        receiver.set(inst, rs.getInt("__ROW_NUMBER_" + rowCounter.getA().toUpperCase()));
-      } catch (SQLException e) {
-        receiver.set(inst, -1);
-        logger.logError(e);
+      int i = 0;
+      for (int r = index; r < index + numRows; r++) {
+        for (Object param : rows.get(r))
+          ps.setObject(++i, param);
       }
-    }
 
-    // Invoke lifecycle hook
-    inst.afterParsing();
+      logger.logDebug("INSERT INTO `" + table.getName() + "` (" + numRows + " rows)");
+      ps.executeUpdate();
 
-    return inst;
+      index += numRows;
+    }
   }
 
   /**
-   * Map a ResultSet's rows of data to the corresponding models and use transformers where necessary
-   * @param model Model used to represent the individual result rows
-   * @param rs ResultSet containing all the rows
-   * @return List of models, as many as available rows
+   * Estimate the number of bytes a row of parameters occupies within a packet
+   * @param row Row of parameters
+   * @return Estimated number of bytes
    */
-  private<T extends APersistentModel> List<T> mapRows(Class<T> model, ResultSet rs) throws Exception {
-    List<T> res = new ArrayList<>();
-
-    while (rs.next())
-      res.add(mapRow(model, rs));
+  private long estimateRowBytes(Object[] row) {
+    // Account for the placeholder group's SQL text
+    long bytes = 4L * row.length + 2;
+
+    for (Object param : row) {
+      if (param instanceof String)
+        // Worst case of four bytes per character in utf8mb4
+        bytes += 4L * ((String) param).length();
+      else if (param instanceof byte[])
+        bytes += ((byte[]) param).length;
+      else
+        bytes += 8;
+    }
 
-    return res;
+    return bytes;
   }
 
-  //////////////////////////////////// Deletion ////////////////////////////////////////
-
   /**
-   * Delete existing models from the database by their ID
-   * @param ids IDs of the models to delete
-   * @return Number of affected rows
+   * Execute a write statement for multiple rows of parameters, where
+   * the batch is flushed to the server every {@link #writeBatchSize} rows. The driver
+   * rewrites each flushed batch into a single multi-statement round trip.
+   * @param conn Connection to write on
+   * @param sql Write statement
+   * @param rows Parameter rows
    */
-  private int deleteModel(Class<? extends APersistentModel> type, List<UUID> ids) throws Exception {
-    MysqlTable table = getTableFromModel(type, false);
+  private void executeWriteBatch(PooledConnection conn, String sql, List<Object[]> rows) throws SQLException {
+    PreparedStatement ps = conn.prepareCached(sql);
 
-    PreparedStatement ps = conn.prepareStatement(
-      "DELETE FROM `" + table.getName() + "` WHERE `id` IN (" +
-      ids.stream().map(this::uuidToBin).collect(Collectors.joining(", ")) +
-      ");"
-    );
+    // A single row doesn't benefit from batching
+    if (rows.size() == 1) {
+      bindParams(ps, rows.get(0));
+      logStatement(ps);
+      ps.executeUpdate();
+      return;
+    }
 
-    logStatement(ps);
+    logger.logDebug(sql + " (batch of " + rows.size() + " rows)");
 
-    int aff = ps.executeUpdate();
-    ps.close();
-    return aff;
-  }
+    try {
+      int pending = 0;
+      for (Object[] row : rows) {
+        bindParams(ps, row);
+        ps.addBatch();
+
+        if (++pending >= writeBatchSize) {
+          ps.executeBatch();
+          pending = 0;
+        }
+      }
 
-  //////////////////////////////////// Writing ////////////////////////////////////////
+      if (pending > 0)
+        ps.executeBatch();
+    } catch (SQLException e) {
+      // Don't leave rows behind on the cached statement
+      ps.clearBatch();
+      throw e;
+    }
+  }
 
   /**
-   * Tries to resolve a transformed column into it's value after the
-   * transformation has been applied
-   * @param column Column to be transformed
-   * @param model Model containing the data to transform in one of the fields
-   * @param replaceCache Writeable cache used to store replace() results in and access
-   *                     them over the (possibly) multiple field accesses of a transformed result
-   * @return Transformed object on transformed columns, column's vanilla value otherwise
+   * Upsert a list of models one by one, where each model is written by a single
+   * INSERT ... ON DUPLICATE KEY UPDATE statement. Multiple models are upserted
+   * within a single transaction.
+   * @param conn Connection to write on
+   * @param models Models to upsert
+   * @return Results, in the order of the provided models
    */
-  private Object resolveColumnValue(
-    MysqlColumn column,
-    APersistentModel model,
-    Map<String, Object> replaceCache
-  ) throws Exception {
-    Object value = column.getModelField().get(model);
-    Field knownModelField = column.getKnownModelField();
-    IDataTransformer<?, ?> transformer = getTransformerByKnownField(knownModelField);
+  private<T extends APersistentModel> List<UpsertResult> upsertModels(PooledConnection conn, List<T> models) throws Exception {
+    List<UpsertResult> results = new ArrayList<>(models.size());
 
-    // This column is not bein transformed
-    if (knownModelField == null || transformer == null)
-      return value;
-
-    // Format: <field>__<inlined_field>
-    String fieldName = column.getName().split("__")[0];
+    // Upserted models, with the snapshot of what's being written
+    List<Tuple<T, Object[]>> written = new ArrayList<>();
 
-    // Only compute the replace if there's no cache entry yet
-    Object replaced = replaceCache.get(fieldName);
-    if (!replaceCache.containsKey(fieldName)) {
-      replaced = callTransformerReplace(transformer, value);
-      replaceCache.put(fieldName, replaced);
-    }
+    // Models which got an id assigned, as it has to be taken back on failure
+    List<T> generated = new ArrayList<>();
 
-    // The replacer returned null, thus all of it's fields are null
-    if (replaced == null)
-      return null;
+    Connection c = conn.getConnection();
+    boolean isTransaction = models.size() > 1;
 
-    // Get the transformer column's value from the model the value just got replaced into
-    return knownModelField.get(replaced);
-  }
+    if (isTransaction)
+      c.setAutoCommit(false);
 
-  /**
-   * Check for duplicate keys of a model's unique columns and throw an exception on occurrence
-   * @param model Model to check for
-   * @param table Table that corresponds to this model
-   * @param replaceCache Writeable cache used to store replace() results in and access
-   *                     them over the (possibly) multiple field accesses of a transformed result
-   */
-  private void checkDuplicateKeys(
-    APersistentModel model,
-    MysqlTable table,
-    Map<String, Object> replaceCache
-  ) throws Exception {
+    try {
+      for (T model : models) {
+        MysqlTable table = getTableFromModel(model.getClass(), false);
+
+        if (model.getId() == null)
+          generated.add(model);
+
+        ModelPlan plan = table.getPlan();
+        boolean isNew = model.getId() == null;
+        Object[] state = new Object[plan.getSnapshotLength()];
+        Object[] params = resolveWriteParams(model, table, true, null, new HashMap<>(), state);
+
+        // The update timestamp of an existing row is bound after the inserted values
+        Date updatedAt = new Date();
+        if (plan.getUpdatedAtIndex() >= 0) {
+          params = Arrays.copyOf(params, params.length + 1);
+          params[params.length - 1] = updatedAt;
+        }
 
-    QueryBuilder<?> query = new QueryBuilder<>(model.getClass());
-    List<Tuple<String, Object>> uniqueVals = new ArrayList<>();
+        PreparedStatement ps = conn.prepareCached(buildUpsertQuery(table));
+        bindParams(ps, params);
+        logStatement(ps);
 
-    List<MysqlColumn> columns = table.getColumns().stream()
-      .filter(c -> !c.isPrimaryKey())
-      .filter(MysqlColumn::isUnique)
-      .collect(Collectors.toList());
+        // Affected rows are 1 for inserts, 2 for updates and 0 for unchanged rows
+        UpsertResult result = ps.executeUpdate() == 1 ? UpsertResult.INSERTED : UpsertResult.UPDATED;
 
-    // Has no unique columns
-    if (columns.size() == 0)
-      return;
+        if (result == UpsertResult.UPDATED) {
+          if (plan.getUpdatedAtIndex() >= 0) {
+            plan.getColumns()[plan.getUpdatedAtIndex()].getAccessor().set(model, updatedAt);
+            state[plan.getUpdatedAtIndex()] = snapshotValue(updatedAt);
+          }
 
-    // Loop all unique keys
-    for (MysqlColumn column : columns) {
-      if (column.isPrimaryKey() || !column.isUnique())
-        continue;
+          // The existing row kept it's identity, which has to be mirrored into new models,
+          // while models that already have an identity never take on another row's
+          if (isNew)
+            reviveUpsertedIdentity(conn, model, table, params, state);
+        }
 
-      // String columns that are unique are always ignoring the casing
-      EqualityOperation op = EqualityOperation.EQ;
-      if (column.getType() == MysqlType.VARCHAR || column.getType() == MysqlType.TEXT)
-        op = EqualityOperation.EQ_IC;
+        written.add(new Tuple<>(model, state));
+        results.add(result);
+      }
 
-      Object value = resolveColumnValue(column, model, replaceCache);
-      String colname = dbNameToModelName(column.getName(), false);
-      query.and(colname, op, value);
-      uniqueVals.add(new Tuple<>(colname, value));
-    }
+      if (isTransaction)
+        c.commit();
 
-    // And is not self (on updates)
-    if (model.getId() != null)
-      query.and("id", EqualityOperation.NEQ, model.getId());
+      for (Tuple<T, Object[]> model : written)
+        model.getA().setPersistenceSnapshot(model.getB());
 
-    // There's already a column with this unique field
-    if (count(query) > 0)
-      throw new DuplicatePropertyException(dbNameToModelName(table.getName(), true), uniqueVals);
+      return results;
+    } catch (Exception e) {
+      if (isTransaction)
+        c.rollback();
+
+      // None of the models have been persisted, so the new ones are still new
+      for (T model : generated) {
+        for (MysqlColumn column : getTableFromModel(model.getClass(), false).getColumns()) {
+          if (column.isPrimaryKey())
+            column.getAccessor().set(model, null);
+        }
+      }
+      throw e;
+    } finally {
+      if (isTransaction)
+        c.setAutoCommit(true);
+    }
   }
 
   /**
-   * Conversion of a UUID (dash-separated) to a 16 byte binary number
-   * @param u UUID value
-   * @return Conversion instruction
+   * Build an insert statement which updates all non-reserved columns of the row that
+   * collides either on the unique constraint or on the id, for example:
+   * INSERT INTO `table` (...) VALUES (...) ON DUPLICATE KEY UPDATE `a` = VALUES(`a`).
+   * The update timestamp is bound as an additional parameter after the inserted values.
+   * @param table Table to upsert into
+   * @return Built statement
    */
-  private String uuidToBin(@Nullable UUID u) {
-    return uuidToBin((u == null ? "null" : u.toString()), true);
-  }
+  private String buildUpsertQuery(MysqlTable table) {
+    String key = "upsert|" + table.getName();
 
-  /**
-   * Conversion of a UUID (dash-separated) to a 16 byte binary number
-   * @param value String value to pass to the conversion function
-   * @param immediate Whether this is an immediate value and no placeholder (?)
-   * @return Conversion instruction
-   */
-  private String uuidToBin(String value, boolean immediate) {
-    String im = immediate ? "'" : "";
-    return "UNHEX(REPLACE(" + im + value + im + ", \"-\", \"\"))";
-  }
+    synchronized (queryCache) {
+      String sql = queryCache.get(key);
+      if (sql != null)
+        return sql;
+    }
 
-  /**
-   * Get a model's corresponding parsed table
-   * @param model Model class
-   * @param allowTransformers Whether to allow transformer models
-   * @return Table instance
-   * @throws PersistenceException Model not known
-   */
-  private MysqlTable getTableFromModel(Class<?> model, boolean allowTransformers) throws PersistenceException {
-    MysqlTable table = tables.get(model);
+    StringBuilder stmt = new StringBuilder(buildModelWriteQuery(table, true, null))
+      .append(" ON DUPLICATE KEY UPDATE ");
 
-    if (table == null)
-      throw new PersistenceException("The model " + model.getSimpleName() + " is not registered!");
+    ModelPlan plan = table.getPlan();
+    MysqlColumn[] columns = plan.getColumns();
 
-    if (!allowTransformers && table.isTransformer())
-      throw new PersistenceException("Cannot directly write transformers: " + model.getSimpleName());
+    boolean first = true;
+    for (int i = 0; i < columns.length; i++) {
 
-    return table;
-  }
+      // The existing row keeps it's identity and creation timestamp
+      if (i == plan.getPrimaryKeyIndex() || i == plan.getCreatedAtIndex())
+        continue;
 
-  private String buildModelWriteQuery(
-    APersistentModel model,
-    MysqlTable table,
-    Map<String, Object> replaceCache
-  ) throws Exception {
-    // Ensure that there are no duplicate keys
-    // TODO: Read duplicate keys from exception to allow for faster batch insertion
-    // checkDuplicateKeys(model, table, replaceCache);
+      if (!first)
+        stmt.append(", ");
 
-    boolean isInsert = model.getId() == null;
-    List<MysqlColumn> columns = table.getColumns();
+      first = false;
+      stmt.append('`').append(columns[i].getName()).append("` = ");
 
-    StringBuilder stmt = new StringBuilder(
-      isInsert ? "INSERT INTO `" + table.getName() + "` (" : "UPDATE `" + table.getName() + "` SET "
-    );
+      if (i == plan.getUpdatedAtIndex())
+        stmt.append('?');
+      else
+        stmt.append("VALUES(`").append(columns[i].getName()).append("`)");
+    }
 
-    // Append a list of column names, in the order they appear in the list
-    for (int i = 0; i < columns.size(); i++) {
-      MysqlColumn column = columns.get(i);
+    String sql = stmt.toString();
 
-      // Primary keys are never updated
-      if (!isInsert && column.isPrimaryKey())
-        continue;
+    synchronized (queryCache) {
+      queryCache.put(key, sql);
+    }
 
-      stmt
-        .append("`")
-        .append(column.getName())
-        .append("`");
+    return sql;
+  }
 
-      // Also add a placeholder when updating
-      if (!isInsert) {
-        stmt.append(" = ");
+  /**
+   * Read the id and the creation timestamp of an existing row which has been updated
+   * by an upsert back into the new model, as it has been given values for a new row
+   * @param conn Connection to read on
+   * @param model Upserted model, which had no id before
+   * @param table Table of the model
+   * @param params Parameters the model has been upserted with
+   * @param state Snapshot of the upserted values, which receives the revived values as well
+   */
+  private void reviveUpsertedIdentity(
+    PooledConnection conn,
+    APersistentModel model,
+    MysqlTable table,
+    Object[] params,
+    Object[] state
+  ) throws Exception {
+    ModelPlan plan = table.getPlan();
+    MysqlColumn[] columns = plan.getColumns();
+    List<Integer> filter = new ArrayList<>();
 
-        // UUIDs need to be converted to binary
-        if (column.getType().equals(MysqlType.UUID))
-          stmt.append(uuidToBin("?", false));
+    // Locate the row by it's unique columns, where NULLs never collide. A freshly
+    // generated id cannot have collided, so one of the unique columns did.
+    for (int i = 0; i < columns.length; i++) {
+      MysqlColumn column = columns[i];
 
-        else
-          stmt.append('?');
+      if (!column.isUnique() || column.isPrimaryKey())
+        continue;
+
+      if (params[i] == null) {
+        filter.clear();
+        break;
       }
 
-      stmt.append(i == columns.size() - 1 ? " " : ", ");
+      filter.add(i);
     }
 
-    // Append VALUES clause only for insertions
-    if (isInsert) {
-      stmt.append(") VALUES (");
+    if (filter.size() == 0)
+      return;
 
-      for (int i = 0; i < columns.size(); i++) {
-        MysqlColumn column = columns.get(i);
+    MysqlColumn primaryKey = columns[plan.getPrimaryKeyIndex()];
+    MysqlColumn createdAt = plan.getCreatedAtIndex() >= 0 ? columns[plan.getCreatedAtIndex()] : null;
 
-        // UUIDs need to be converted to binary
-        if (column.getType().equals(MysqlType.UUID))
-          stmt.append(uuidToBin("?", false));
+    StringBuilder stmt = new StringBuilder("SELECT `").append(primaryKey.getName()).append('`');
 
-        else
-          stmt.append('?');
+    if (createdAt != null)
+      stmt.append(", `").append(createdAt.getName()).append('`');
 
-        stmt.append(i == columns.size() - 1 ? ");" : ", ");
-      }
-    }
+    stmt.append(" FROM `").append(table.getName()).append("` WHERE ");
 
-    // Append an update filter
-    else {
-      stmt.append("WHERE `id` = ").append(uuidToBin(model.getId())).append(";");
+    for (int i = 0; i < filter.size(); i++) {
+      if (i != 0)
+        stmt.append(" AND ");
+
+      stmt.append('`').append(columns[filter.get(i)].getName()).append("` = ?");
     }
 
-    return stmt.toString();
-  }
+    PreparedStatement ps = conn.prepareCached(stmt.toString());
 
-  private<T extends APersistentModel> void writeModels(List<T> models) throws Exception {
-    StringBuilder stmt = new StringBuilder();
+    for (int i = 0; i < filter.size(); i++)
+      ps.setObject(i + 1, params[filter.get(i)]);
 
-    // Begin transaction, if applicable
-    if (models.size() > 1)
-      stmt.append("START TRANSACTION;");
+    logStatement(ps);
+    ResultSet rs = ps.executeQuery();
 
-    // Loop all models and collect the parameters for all individual
-    // queries in order within this list
-    List<Object> params = new ArrayList<>();
-    for (T model : models) {
+    if (rs.next()) {
+      UUID id = UuidCodec.fromBytes(rs.getBytes(1));
+      primaryKey.getAccessor().set(model, id);
+      state[plan.getPrimaryKeyIndex()] = id;
 
-      MysqlTable table = getTableFromModel(model.getClass(), false);
-      Map<String, Object> replaceCache = new HashMap<>();
-      boolean isInsert = model.getId() == null;
-      stmt.append("\n").append(buildModelWriteQuery(model, table, replaceCache));
+      if (createdAt != null) {
+        Object value = translateValue(MysqlType.DATETIME, rs.getObject(2));
+        createdAt.getAccessor().set(model, value);
+        state[plan.getCreatedAtIndex()] = snapshotValue(value);
+      }
+    }
 
-      // Fill all placeholder values
-      for (MysqlColumn column : table.getColumns()) {
-        Object value;
+    rs.close();
+  }
 
-        // Generate a new UUID for the PK
-        if (column.isPrimaryKey()) {
+  /**
+   * Copy a column value for it to be stored within a snapshot, where dates are mutable
+   * @param value Column value
+   * @return Value to store
+   */
+  private @Nullable Object snapshotValue(@Nullable Object value) {
+    return value instanceof Date ? ((Date) value).clone() : value;
+  }
 
-          // Primary keys are never updated
-          if (!isInsert)
-            continue;
+  /**
+   * Find all columns of a model which changed since it's last snapshot. The update
+   * timestamp is always part of a non-empty result, as it moves with every change.
+   * @param table Table of the model
+   * @param model Model to check
+   * @param previous Snapshot of the model, null if it has none
+   * @param state Snapshot which is about to be written, receiving the foreign snapshots
+   *              of all transformed fields which are not known to be unchanged
+   * @param replaceCache Cache of replace() results, shared with resolving the write parameters
+   * @return Indices of changed columns, null if there's no snapshot to compare against
+   */
+  private @Nullable BitSet findChangedColumns(
+    MysqlTable table,
+    APersistentModel model,
+    @Nullable Object[] previous,
+    Object[] state,
+    Map<String, Object> replaceCache
+  ) throws Exception {
+    if (previous == null)
+      return null;
 
-          value = UUID.randomUUID();
-          column.getModelField().set(model, value);
-        }
+    ModelPlan plan = table.getPlan();
+    MysqlColumn[] columns = plan.getColumns();
+    BitSet changed = new BitSet(columns.length);
 
-        // Generate created at timestamp on insertions or set when missing on updates
-        else if (
-          column.getName().equals("created_at") &&
-          (isInsert || model.getCreatedAt() == null)
-        ) {
-          value = new Date();
-          column.getModelField().set(model, value);
-        }
+    for (int i : plan.getPlainColumns()) {
+      if (i == plan.getPrimaryKeyIndex() || i == plan.getUpdatedAtIndex())
+        continue;
 
-        // Updated at starts out as NULL for insertions or is updated on every update
-        else if (column.getName().equals("updated_at")) {
-          value = isInsert ? null : new Date();
-          column.getModelField().set(model, value);
-        }
+      if (!Objects.deepEquals(resolveColumnValue(columns[i], model, replaceCache), previous[i]))
+        changed.set(i);
+    }
 
-        // Resolve the non-reserved column's value
-        else
-          value = resolveColumnValue(column, model, replaceCache);
+    List<InlinedField> inlinedFields = plan.getInlinedFields();
+    for (int f = 0; f < inlinedFields.size(); f++) {
+      InlinedField inlined = inlinedFields.get(f);
+      int snapshotIndex = plan.getForeignSnapshotIndex(f);
+      Object value = inlined.getAccessor().get(model);
 
-        // UUIDs always need to be stringified
-        if (column.getType().equals(MysqlType.UUID) && value != null)
-          value = value.toString();
+      // The transformer vouches for the field being unchanged, which spares replacing it
+      if (value != null && previous[snapshotIndex] != null && callTransformerIsUnchanged(inlined.getTransformer(), value, previous[snapshotIndex]))
+        continue;
 
-          // Save enums as a string by writing their constant's name
-        else if (value != null && column.getModelField().getType().isEnum())
-          value = ((Enum<?>) value).name();
+      // Remembered before replacing, so that changes made in the meantime are picked up next time
+      state[snapshotIndex] = callTransformerSnapshot(inlined.getTransformer(), value);
 
-        params.add(value);
+      // Transformed fields are compared by their replaced columns, just as they'd be written
+      for (int i : inlined.getColumnIndices()) {
+        if (!Objects.deepEquals(resolveColumnValue(columns[i], model, replaceCache), previous[i]))
+          changed.set(i);
       }
-
     }
 
-    // Close transaction, if applicable
-    if (models.size() > 1)
-      stmt.append("COMMIT;");
+    if (!changed.isEmpty() && plan.getUpdatedAtIndex() >= 0)
+      changed.set(plan.getUpdatedAtIndex());
 
-    // Parameterize
-    PreparedStatement ps = conn.prepareStatement(stmt.toString());
-    for (int i = 0; i < params.size(); i++)
-      ps.setObject(i + 1, params.get(i));
+    return changed;
+  }
 
-    logStatement(ps);
-    ps.executeUpdate();
+  /**
+   * Take the foreign snapshot of every transformed field of a model
+   * @param plan Plan of the model
+   * @param model Model to take the snapshots of
+   * @param state Receives each foreign snapshot at it's index
+   */
+  private void takeForeignSnapshots(ModelPlan plan, APersistentModel model, Object[] state) throws Exception {
+    List<InlinedField> inlinedFields = plan.getInlinedFields();
+
+    for (int i = 0; i < inlinedFields.size(); i++) {
+      InlinedField inlined = inlinedFields.get(i);
+      state[plan.getForeignSnapshotIndex(i)] = callTransformerSnapshot(inlined.getTransformer(), inlined.getAccessor().get(model));
+    }
+  }
+
+  /**
+   * Bind a row of parameters to a statement
+   * @param ps Statement to bind to
+   * @param params Parameters, in order of their placeholders
+   */
+  private void bindParams(PreparedStatement ps, Object[] params) throws SQLException {
+    for (int i = 0; i < params.length; i++)
+      ps.setObject(i + 1, params[i]);
   }
 
   ////////////////////////////////// Transformers /////////////////////////////////////
@@ -1875,6 +4248,9 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
       .filter(IDataTransformer.class::isInstance)
       .map(IDataTransformer.class::cast)
       .forEach(dt -> this.transformers.add(((IDataTransformer<?, ?>) dt)));
+
+    for (IDataTransformer<?, ?> transformer : transformers)
+      transformersByKnownClass.put(transformer.getKnownClass(), transformer);
   }
 
   /**
@@ -1907,6 +4283,8 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
 
     // Return a list of columns to be inlined into the requesting table
     MysqlTable table = tables.get(model);
+    FieldAccessor accessor = getAccessor(f);
+    IDataTransformer<?, ?> binding = match;
     return Optional.of(
       table.getColumns()
         .stream()
@@ -1924,7 +4302,7 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
           return new MysqlColumn(
             modelNameToDBName(f.getName()) + "__" + c.getName(),
             type, mp.isNullable(), c.getMigrationDefault(),
-            mp.isUnique(), true, f, c.getModelField(), c.getForeignKey(), c.getForeignAction()
+            mp.isUnique(), true, f, accessor, c.getModelField(), c.getAccessor(), binding, c.getForeignKey(), c.getForeignAction()
           );
         })
         .collect(Collectors.toList())
@@ -1932,51 +4310,55 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
   }
 
   /**
-   * Get a known field's corresponding transformer by it's declaring class
-   * @param knownField Known field
-   * @return Data transformer or null if this field is either null or has no transformer attached
+   * Call the transformers replace method to turn a foreign value into it's known model
+   * @param transformer Transformer to be used, as bound to the column
+   * @param input Input value to the replace function
+   * @return Replaced known model
+   */
+  @SuppressWarnings("unchecked")
+  private Object callTransformerReplace(IDataTransformer<?, ?> transformer, Object input) {
+    // The column's binding guarantees that the input is of the foreign type
+    return ((IDataTransformer<?, Object>) transformer).replace(input);
+  }
+
+  /**
+   * Call the transformers snapshot method to take a snapshot of a foreign value
+   * @param transformer Transformer to be used, as bound to the column
+   * @param input Foreign value to take a snapshot of
+   * @return Snapshot, null if the value is null or the transformer doesn't support snapshots
    */
-  private IDataTransformer<?, ?> getTransformerByKnownField(Field knownField) {
-    if (knownField == null)
+  @SuppressWarnings("unchecked")
+  private @Nullable Object callTransformerSnapshot(IDataTransformer<?, ?> transformer, @Nullable Object input) {
+    if (input == null)
       return null;
 
-    // Get the transformer by the field's declaring class (the known type)
-    return transformers.stream()
-      .filter(tr -> tr.getKnownClass().equals(knownField.getDeclaringClass()))
-      .findFirst()
-      .orElse(null);
+    // The column's binding guarantees that the input is of the foreign type
+    return ((IDataTransformer<?, Object>) transformer).snapshot(input);
   }
 
   /**
-   * Call the transformers replace method to turn a foreign value into it's known model
-   * @param transformer Transformer to be used
-   * @param input Input value to the replace function
-   * @return Replaced known model
+   * Call the transformers isUnchanged method to compare a foreign value against it's snapshot
+   * @param transformer Transformer to be used, as bound to the column
+   * @param input Foreign value to compare
+   * @param snapshot Snapshot previously taken by the same transformer
+   * @return True if the value is unchanged
    */
-  private Object callTransformerReplace(IDataTransformer<?, ?> transformer, Object input) throws Exception {
-    // Call the replace method on the model's column value
-    Method replace = Arrays.stream(transformer.getClass().getMethods())
-      .filter(m -> m.getName().equals("replace"))
-      .findFirst().orElseThrow();
-
-    // Return the method's result
-    return replace.invoke(transformer, input);
+  @SuppressWarnings("unchecked")
+  private boolean callTransformerIsUnchanged(IDataTransformer<?, ?> transformer, Object input, Object snapshot) {
+    // The column's binding guarantees that the input is of the foreign type
+    return ((IDataTransformer<?, Object>) transformer).isUnchanged(input, snapshot);
   }
 
   /**
    * Call the transformers revive method to turn a known model into it's foreign value
-   * @param transformer Transformer to be used
+   * @param transformer Transformer to be used, as bound to the column
    * @param input Input value to the revive function
    * @return Revived foreign value
    */
-  private Object callTransformerRevive(IDataTransformer<?, ?> transformer, Object input) throws Exception {
-    // Call the revive method on the model's column value
-    Method revive = Arrays.stream(transformer.getClass().getMethods())
-      .filter(m -> m.getName().equals("revive"))
-      .findFirst().orElseThrow();
-
-    // Return the method's result
-    return revive.invoke(transformer, input);
+  @SuppressWarnings("unchecked")
+  private Object callTransformerRevive(IDataTransformer<?, ?> transformer, Object input) {
+    // The column's binding guarantees that the input is of the known type
+    return ((IDataTransformer<APersistentModel, ?>) transformer).revive((APersistentModel) input);
   }
 
   /**
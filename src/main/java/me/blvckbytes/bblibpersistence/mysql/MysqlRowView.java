@@ -0,0 +1,63 @@
+package me.blvckbytes.bblibpersistence.mysql;
+
+import me.blvckbytes.bblibpersistence.IRowView;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.function.BiFunction;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/17/2026
+
+  Views the current row of a result set whose selected columns have been resolved
+  once ahead of time, so that reading a value only requires an ordinal lookup.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class MysqlRowView implements IRowView {
+
+  private final ResultSet rs;
+
+  // Selected columns, a column's ordinal is it's index plus one
+  private final MysqlColumn[] columns;
+
+  // Translates a column's value into it's java representation
+  private final BiFunction<MysqlType, Object, Object> translator;
+
+  public MysqlRowView(ResultSet rs, MysqlColumn[] columns, BiFunction<MysqlType, Object, Object> translator) {
+    this.rs = rs;
+    this.columns = columns;
+    this.translator = translator;
+  }
+
+  @Override
+  public int getWidth() {
+    return columns.length;
+  }
+
+  @Override
+  public @Nullable Object get(int index) {
+    MysqlColumn column = columns[index];
+
+    try {
+      // Binary columns are read as their raw bytes, without any detour
+      Object value = column.getType() == MysqlType.UUID ? rs.getBytes(index + 1) : rs.getObject(index + 1);
+      return translator.apply(column.getType(), value);
+    } catch (SQLException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
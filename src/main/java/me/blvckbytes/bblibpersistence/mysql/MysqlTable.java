@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 import java.util.List;
+import java.util.Map;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
@@ -33,4 +34,10 @@ public class MysqlTable {
   // Whether this table is used in combination with a
   // transformer and thus not an entity of it's own
   private boolean isTransformer;
+
+  // Metadata resolved once at parse time
+  private ModelPlan plan;
+
+  // Secondary indexes, mapping their names to the spanned columns in order
+  private Map<String, List<String>> indexes;
 }
@@ -47,7 +47,9 @@ public enum MysqlType {
       EqualityOperation.STARTS,
       EqualityOperation.STARTS_IC,
       EqualityOperation.ENDS,
-      EqualityOperation.ENDS_IC
+      EqualityOperation.ENDS_IC,
+      EqualityOperation.IN,
+      EqualityOperation.NOT_IN
     }
   ),
 
@@ -70,7 +72,9 @@ public enum MysqlType {
       EqualityOperation.STARTS,
       EqualityOperation.STARTS_IC,
       EqualityOperation.ENDS,
-      EqualityOperation.ENDS_IC
+      EqualityOperation.ENDS_IC,
+      EqualityOperation.IN,
+      EqualityOperation.NOT_IN
     }
   ),
 
@@ -93,7 +97,9 @@ public enum MysqlType {
       EqualityOperation.STARTS,
       EqualityOperation.STARTS_IC,
       EqualityOperation.ENDS,
-      EqualityOperation.ENDS_IC
+      EqualityOperation.ENDS_IC,
+      EqualityOperation.IN,
+      EqualityOperation.NOT_IN
     }
   ),
 
@@ -132,7 +138,9 @@ public enum MysqlType {
       EqualityOperation.GT,
       EqualityOperation.GTE,
       EqualityOperation.LT,
-      EqualityOperation.LTE
+      EqualityOperation.LTE,
+      EqualityOperation.IN,
+      EqualityOperation.NOT_IN
     }
   ),
 
@@ -156,7 +164,9 @@ public enum MysqlType {
       EqualityOperation.GT,
       EqualityOperation.GTE,
       EqualityOperation.LT,
-      EqualityOperation.LTE
+      EqualityOperation.LTE,
+      EqualityOperation.IN,
+      EqualityOperation.NOT_IN
     }
   ),
 
@@ -226,7 +236,9 @@ public enum MysqlType {
       EqualityOperation.GT,
       EqualityOperation.GTE,
       EqualityOperation.LT,
-      EqualityOperation.LTE
+      EqualityOperation.LTE,
+      EqualityOperation.IN,
+      EqualityOperation.NOT_IN
     }
   )
   ;
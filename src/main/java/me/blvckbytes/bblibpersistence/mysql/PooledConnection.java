@@ -0,0 +1,123 @@
+package me.blvckbytes.bblibpersistence.mysql;
+
+import lombok.Getter;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/17/2026
+
+  Wraps a physical connection which is owned by a {@link MysqlConnectionPool}.
+  Closing this wrapper hands the connection back to it's pool. Frequently used
+  statements are kept prepared for the whole lifetime of the connection.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class PooledConnection implements AutoCloseable {
+
+  @Getter
+  private final Connection connection;
+
+  private final MysqlConnectionPool pool;
+
+  // Timestamp of the last time this connection has been handed back
+  @Getter
+  private volatile long lastUsed;
+
+  // Whether this connection is currently lent out
+  private final AtomicBoolean borrowed;
+
+  // Statements which stay prepared, mapped by their SQL. Only ever accessed
+  // by the current borrower, so there's no need for synchronization
+  private final LruCache<String, PreparedStatement> statements;
+
+  public PooledConnection(Connection connection, MysqlConnectionPool pool, int statementCacheSize) {
+    this.connection = connection;
+    this.pool = pool;
+    this.lastUsed = System.currentTimeMillis();
+    this.borrowed = new AtomicBoolean(false);
+    this.statements = new LruCache<>(statementCacheSize, this::closeQuietly);
+  }
+
+  /**
+   * Prepare a statement on the underlying connection
+   * @param sql SQL to prepare
+   * @return Prepared statement
+   */
+  public PreparedStatement prepareStatement(String sql) throws SQLException {
+    return connection.prepareStatement(sql);
+  }
+
+  /**
+   * Get a statement which stays prepared on this connection and only needs it's
+   * parameters to be rebound. The statement must not be closed by the caller.
+   * @param sql SQL to prepare, without a trailing semicolon
+   * @return Cached prepared statement
+   */
+  public PreparedStatement prepareCached(String sql) throws SQLException {
+    PreparedStatement ps = statements.get(sql);
+
+    if (ps != null && !ps.isClosed()) {
+      pool.recordStatementCacheHit();
+      return ps;
+    }
+
+    pool.recordStatementCacheMiss();
+    ps = connection.prepareStatement(sql);
+    statements.put(sql, ps);
+    return ps;
+  }
+
+  /**
+   * Close an evicted statement, errors are irrelevant at this point
+   * @param ps Statement to close
+   */
+  private void closeQuietly(PreparedStatement ps) {
+    try {
+      ps.close();
+    } catch (SQLException ignored) {}
+  }
+
+  /**
+   * Mark this connection as being lent out
+   */
+  void markBorrowed() {
+    borrowed.set(true);
+  }
+
+  /**
+   * Mark this connection as being handed back
+   * @return True if it has been borrowed before, false on duplicate releases
+   */
+  boolean markReleased() {
+    // Only one of multiple concurrent releases may hand the connection back
+    if (!borrowed.compareAndSet(true, false))
+      return false;
+
+    this.lastUsed = System.currentTimeMillis();
+    return true;
+  }
+
+  /**
+   * Hand this connection back to it's pool
+   */
+  @Override
+  public void close() {
+    pool.release(this);
+  }
+}
@@ -0,0 +1,114 @@
+package me.blvckbytes.bblibpersistence.mysql;
+
+import lombok.Getter;
+import me.blvckbytes.bblibpersistence.exceptions.PersistenceException;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/17/2026
+
+  Maps the fields of a projection class onto the columns of a model, which is
+  resolved once per pair of model and projection, so that reading a projected
+  row only has to walk arrays, just like a {@link ModelPlan} does.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@Getter
+public class ProjectionPlan {
+
+  private final Class<?> projection;
+
+  // Handle of the projection's empty constructor
+  private final MethodHandle constructor;
+
+  // Model properties to select, in the order of their ordinals
+  private final String[] properties;
+
+  // Selected columns, a column's ordinal is it's index plus one
+  private final MysqlColumn[] columns;
+
+  // Projection field receiving each column, null for inlined columns
+  private final FieldAccessor[] targets;
+
+  // Enum type of each target field, null for non-enum fields
+  private final Class<?>[] enumTypes;
+
+  // Transformed fields, where the accessor targets the projection
+  // and the column indices point into the selected columns
+  private final List<InlinedField> inlinedFields;
+
+  public ProjectionPlan(
+    Class<?> projection,
+    String[] properties,
+    MysqlColumn[] columns,
+    FieldAccessor[] targets,
+    List<InlinedField> inlinedFields
+  ) throws IllegalAccessException {
+    this.projection = projection;
+    this.constructor = findConstructor(projection);
+    this.properties = properties;
+    this.columns = columns;
+    this.targets = targets;
+    this.inlinedFields = inlinedFields;
+    this.enumTypes = new Class<?>[targets.length];
+
+    for (int i = 0; i < targets.length; i++) {
+      if (targets[i] != null && targets[i].getField().getType().isEnum())
+        enumTypes[i] = targets[i].getField().getType();
+    }
+  }
+
+  /**
+   * Create a new empty instance of the projection by invoking it's empty constructor
+   * @return Instantiated projection
+   */
+  public Object instantiate() {
+    try {
+      return (Object) constructor.invokeExact();
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new IllegalStateException(t);
+    }
+  }
+
+  /**
+   * Resolve a handle of a projection's empty constructor
+   * @param projection Projection to resolve
+   * @return Constructor handle
+   */
+  private static MethodHandle findConstructor(Class<?> projection) throws IllegalAccessException {
+    if (Modifier.isAbstract(projection.getModifiers()))
+      throw new PersistenceException("Projection " + projection + " cannot be abstract");
+
+    Constructor<?> ctor;
+    try {
+      ctor = projection.getDeclaredConstructor();
+    } catch (NoSuchMethodException e) {
+      throw new PersistenceException("Projection " + projection + " provides no empty constructor");
+    }
+
+    ctor.setAccessible(true);
+    return MethodHandles.lookup().unreflectConstructor(ctor)
+      .asType(MethodType.methodType(Object.class));
+  }
+}
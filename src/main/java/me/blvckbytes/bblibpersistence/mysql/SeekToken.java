@@ -0,0 +1,172 @@
+package me.blvckbytes.bblibpersistence.mysql;
+
+import me.blvckbytes.bblibpersistence.exceptions.PersistenceException;
+
+import java.io.*;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/17/2026
+
+  Encodes the sorting values of a row into an opaque, URL-safe continuation token
+  and back. Tokens carry the signature of the ordering they've been created for,
+  so that they cannot be applied to a differently sorted query by accident.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class SeekToken {
+
+  private static final byte VERSION = 1;
+
+  // Type tags of the encoded values
+  private static final byte
+    T_STRING = 0, T_INTEGER = 1, T_LONG = 2, T_SHORT = 3, T_BYTE = 4,
+    T_DOUBLE = 5, T_FLOAT = 6, T_BOOLEAN = 7, T_DATE = 8, T_UUID = 9;
+
+  /**
+   * Encode a row's sorting values into a token
+   * @param signature Signature of the ordering the values belong to
+   * @param values Sorting values, none of which may be null
+   * @return Encoded token
+   */
+  public static String encode(String signature, Object[] values) {
+    // The count is stored as a single unsigned byte
+    if (values.length > 0xFF)
+      throw new PersistenceException("Cannot encode more than 255 values into a continuation token");
+
+    try {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      DataOutputStream out = new DataOutputStream(bytes);
+
+      out.writeByte(VERSION);
+      out.writeInt(signature.hashCode());
+      out.writeByte(values.length);
+
+      for (Object value : values)
+        writeValue(out, value);
+
+      out.close();
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    } catch (IOException e) {
+      throw new PersistenceException("Could not encode a continuation token: " + e.getMessage());
+    }
+  }
+
+  /**
+   * Decode a token back into it's row's sorting values
+   * @param signature Signature of the ordering the token has to belong to
+   * @param token Token to decode
+   * @return Decoded sorting values
+   * @throws PersistenceException Malformed token or token of another ordering
+   */
+  public static Object[] decode(String signature, String token) throws PersistenceException {
+    try {
+      DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(token)));
+
+      if (in.readByte() != VERSION || in.readInt() != signature.hashCode())
+        throw new PersistenceException("The continuation token does not belong to this query's ordering");
+
+      Object[] values = new Object[in.readUnsignedByte()];
+
+      for (int i = 0; i < values.length; i++)
+        values[i] = readValue(in);
+
+      // Trailing bytes after the last value cannot stem from encode
+      if (in.available() > 0)
+        throw new IOException("Trailing bytes after the last value");
+
+      return values;
+    } catch (IOException | IllegalArgumentException e) {
+      throw new PersistenceException("Malformed continuation token");
+    }
+  }
+
+  /**
+   * Write a single tagged value
+   * @param out Stream to write to
+   * @param value Value to write
+   */
+  private static void writeValue(DataOutputStream out, Object value) throws IOException {
+    if (value instanceof String) {
+      out.writeByte(T_STRING);
+      out.writeUTF((String) value);
+    } else if (value instanceof Integer) {
+      out.writeByte(T_INTEGER);
+      out.writeInt((Integer) value);
+    } else if (value instanceof Long) {
+      out.writeByte(T_LONG);
+      out.writeLong((Long) value);
+    } else if (value instanceof Short) {
+      out.writeByte(T_SHORT);
+      out.writeShort((Short) value);
+    } else if (value instanceof Byte) {
+      out.writeByte(T_BYTE);
+      out.writeByte((Byte) value);
+    } else if (value instanceof Double) {
+      out.writeByte(T_DOUBLE);
+      out.writeDouble((Double) value);
+    } else if (value instanceof Float) {
+      out.writeByte(T_FLOAT);
+      out.writeFloat((Float) value);
+    } else if (value instanceof Boolean) {
+      out.writeByte(T_BOOLEAN);
+      out.writeBoolean((Boolean) value);
+    } else if (value instanceof Date) {
+      out.writeByte(T_DATE);
+      out.writeLong(((Date) value).getTime());
+    } else if (value instanceof UUID) {
+      out.writeByte(T_UUID);
+      out.writeLong(((UUID) value).getMostSignificantBits());
+      out.writeLong(((UUID) value).getLeastSignificantBits());
+    } else
+      throw new PersistenceException("Cannot encode a value of type " + value.getClass().getSimpleName() + " into a continuation token");
+  }
+
+  /**
+   * Read a single tagged value
+   * @param in Stream to read from
+   * @return Read value
+   */
+  private static Object readValue(DataInputStream in) throws IOException {
+    byte tag = in.readByte();
+
+    switch (tag) {
+      case T_STRING:
+        return in.readUTF();
+      case T_INTEGER:
+        return in.readInt();
+      case T_LONG:
+        return in.readLong();
+      case T_SHORT:
+        return in.readShort();
+      case T_BYTE:
+        return in.readByte();
+      case T_DOUBLE:
+        return in.readDouble();
+      case T_FLOAT:
+        return in.readFloat();
+      case T_BOOLEAN:
+        return in.readBoolean();
+      case T_DATE:
+        return new Date(in.readLong());
+      case T_UUID:
+        return new UUID(in.readLong(), in.readLong());
+      default:
+        throw new IOException("Unknown value tag " + tag);
+    }
+  }
+}
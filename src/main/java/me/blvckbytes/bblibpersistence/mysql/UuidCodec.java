@@ -0,0 +1,85 @@
+package me.blvckbytes.bblibpersistence.mysql;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/17/2026
+
+  Converts UUIDs to and from the 16 bytes of their BINARY(16) columns, in
+  big endian order of the most and then the least significant bits, which
+  matches what UNHEX of the dash-less string representation produced.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class UuidCodec {
+
+  /**
+   * Encode a UUID into it's binary column representation
+   * @param u UUID to encode
+   * @return Fresh array of 16 bytes, as drivers keep a reference to bound arrays until execution
+   */
+  public static byte[] toBytes(UUID u) {
+    byte[] res = new byte[16];
+    writeLong(res, 0, u.getMostSignificantBits());
+    writeLong(res, 8, u.getLeastSignificantBits());
+    return res;
+  }
+
+  /**
+   * Decode a UUID from it's binary column representation
+   * @param bytes Bytes to decode, may be null for null columns
+   * @return Decoded UUID, null if the bytes were null
+   * @throws IllegalArgumentException Not exactly 16 bytes long
+   */
+  public static @Nullable UUID fromBytes(@Nullable byte[] bytes) {
+    if (bytes == null)
+      return null;
+
+    if (bytes.length != 16)
+      throw new IllegalArgumentException("Expected 16 bytes, got " + bytes.length);
+
+    return new UUID(readLong(bytes, 0), readLong(bytes, 8));
+  }
+
+  /**
+   * Write a long in big endian order
+   * @param buf Buffer to write into
+   * @param offset Offset of the first byte
+   * @param value Value to write
+   */
+  private static void writeLong(byte[] buf, int offset, long value) {
+    for (int i = 7; i >= 0; i--) {
+      buf[offset + i] = (byte) value;
+      value >>>= 8;
+    }
+  }
+
+  /**
+   * Read a long in big endian order
+   * @param buf Buffer to read from
+   * @param offset Offset of the first byte
+   * @return Read value
+   */
+  private static long readLong(byte[] buf, int offset) {
+    long value = 0;
+
+    for (int i = 0; i < 8; i++)
+      value = (value << 8) | (buf[offset + i] & 0xFF);
+
+    return value;
+  }
+}
@@ -0,0 +1,247 @@
+package me.blvckbytes.bblibpersistence.mysql;
+
+import me.blvckbytes.bblibpersistence.models.APersistentModel;
+import me.blvckbytes.bblibutil.logger.ILogger;
+import org.jetbrains.annotations.Nullable;
+
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/17/2026
+
+  Buffers stored models and writes them in batches on a background thread.
+  Models are keyed by their id (or by themselves while they don't have one
+  yet), so that repeated stores within a flush window collapse into a single
+  write of the model's latest state.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class WriteBehindBuffer {
+
+  // Models waiting to be written, in order of their first store
+  private final Map<Object, APersistentModel> pending;
+
+  // Writes a batch of models, throwing on failure
+  private final Consumer<List<APersistentModel>> writer;
+
+  private final int maxPending;
+  private final ScheduledExecutorService flusher;
+  private final ILogger logger;
+
+  // Whether a size triggered flush has already been requested
+  private final AtomicBoolean flushRequested;
+
+  // Number of stores which have been requested and the number of rows which have been written
+  private final AtomicLong enqueued, written;
+
+  // Serializes flushes, so that batches are written in order
+  private final Object flushLock;
+
+  public WriteBehindBuffer(
+    Consumer<List<APersistentModel>> writer,
+    long flushIntervalMs,
+    int maxPending,
+    ILogger logger
+  ) {
+    this.pending = new LinkedHashMap<>();
+    this.writer = writer;
+    this.maxPending = Math.max(1, maxPending);
+    this.logger = logger;
+    this.flushRequested = new AtomicBoolean(false);
+    this.enqueued = new AtomicLong(0);
+    this.written = new AtomicLong(0);
+    this.flushLock = new Object();
+
+    this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread t = new Thread(r, "MysqlPersistence-WriteBehind");
+      t.setDaemon(true);
+      return t;
+    });
+
+    long period = Math.max(1, flushIntervalMs);
+    this.flusher.scheduleWithFixedDelay(this::flushQuietly, period, period, TimeUnit.MILLISECONDS);
+  }
+
+  //=========================================================================//
+  //                                  API                                    //
+  //=========================================================================//
+
+  /**
+   * Enqueue a model to be written with the next flush
+   * @param model Model to enqueue
+   */
+  public void enqueue(APersistentModel model) {
+    int size;
+
+    synchronized (pending) {
+      pending.put(keyOf(model), model);
+      size = pending.size();
+    }
+
+    enqueued.incrementAndGet();
+
+    // Don't wait for the interval when the buffer is full
+    if (size >= maxPending && flushRequested.compareAndSet(false, true))
+      flusher.execute(this::flushQuietly);
+  }
+
+  /**
+   * Drop a model's pending write, as it's about to be deleted
+   * @param key Id of the model, or the model itself if it has no id
+   */
+  public void discard(Object key) {
+    synchronized (pending) {
+      pending.remove(key);
+    }
+  }
+
+  /**
+   * Write all pending models on the calling thread. Failed batches are put
+   * back into the buffer, unless they've been stored again in the meantime.
+   */
+  public void flush() {
+    flush(null);
+  }
+
+  /**
+   * Write all pending models of a certain type on the calling thread, which has to
+   * happen before statements that bypass the buffer touch the type's table
+   * @param type Type of models to write, null to write all pending models
+   */
+  public void flush(@Nullable Class<? extends APersistentModel> type) {
+    synchronized (flushLock) {
+      List<APersistentModel> batch = new ArrayList<>();
+
+      if (type == null)
+        flushRequested.set(false);
+
+      synchronized (pending) {
+        Iterator<APersistentModel> models = pending.values().iterator();
+
+        while (models.hasNext()) {
+          APersistentModel model = models.next();
+
+          if (type != null && model.getClass() != type)
+            continue;
+
+          batch.add(model);
+          models.remove();
+        }
+      }
+
+      if (batch.isEmpty())
+        return;
+
+      try {
+        writer.accept(batch);
+        written.addAndGet(batch.size());
+      } catch (RuntimeException e) {
+        synchronized (pending) {
+          for (APersistentModel model : batch)
+            pending.putIfAbsent(keyOf(model), model);
+        }
+
+        throw e;
+      }
+    }
+  }
+
+  /**
+   * Stop the background flusher and write everything that's still pending
+   */
+  public void close() {
+    flusher.shutdown();
+
+    try {
+      flusher.awaitTermination(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    flush();
+  }
+
+  /**
+   * Get the number of models which are currently waiting to be written
+   */
+  public int getQueueDepth() {
+    synchronized (pending) {
+      return pending.size();
+    }
+  }
+
+  /**
+   * Get the number of stores which have been requested
+   */
+  public long getEnqueued() {
+    return enqueued.get();
+  }
+
+  /**
+   * Get the number of rows which have actually been written
+   */
+  public long getWritten() {
+    return written.get();
+  }
+
+  /**
+   * Get the share of stores which have been collapsed into another store,
+   * ranging from 0 (every store got written) to 1 (nothing got written)
+   */
+  public double getCoalescingRatio() {
+    long stores = enqueued.get();
+
+    if (stores == 0)
+      return 0;
+
+    // Pending stores have not been collapsed yet
+    return Math.max(0, 1 - (double) (written.get() + getQueueDepth()) / stores);
+  }
+
+  //=========================================================================//
+  //                               Utilities                                 //
+  //=========================================================================//
+
+  /**
+   * Get the key a model is buffered by
+   * @param model Model to key
+   * @return Id of the model, or the model itself if it has no id yet
+   */
+  public static Object keyOf(APersistentModel model) {
+    return model.getId() != null ? model.getId() : model;
+  }
+
+  /**
+   * Flush on the background thread, where errors can only be logged
+   */
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (Exception e) {
+      logger.logError(e);
+    }
+  }
+}
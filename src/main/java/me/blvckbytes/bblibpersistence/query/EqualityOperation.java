@@ -60,5 +60,11 @@ public enum EqualityOperation {
   GTE,
 
   // Less than or equal
-  LTE
+  LTE,
+
+  // Is one of a collection of values
+  IN,
+
+  // Is none of a collection of values
+  NOT_IN
 }
@@ -0,0 +1,72 @@
+package me.blvckbytes.bblibpersistence.query;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/17/2026
+
+  Describes how a single field is changed by an atomic update, either by
+  assigning a value or by applying a field operation to the current value.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class FieldUpdate {
+
+  // Operation to apply to the current value, null means plain assignment
+  private final @Nullable FieldOperation op;
+
+  private final @Nullable Object value;
+
+  /**
+   * Assign a value to the field
+   * @param value Value to assign, null is only allowed on nullable fields
+   */
+  public static FieldUpdate set(@Nullable Object value) {
+    return new FieldUpdate(null, value);
+  }
+
+  /**
+   * Apply an operation between the field's current value and a value, like x = x + value
+   * @param op Operation to apply
+   * @param value Right hand side of the operation
+   */
+  public static FieldUpdate apply(FieldOperation op, Object value) {
+    if (value == null)
+      throw new IllegalArgumentException("Field operations require a value");
+
+    return new FieldUpdate(op, value);
+  }
+
+  /**
+   * Add a value to the field's current value
+   * @param value Value to add
+   */
+  public static FieldUpdate plus(Object value) {
+    return apply(FieldOperation.PLUS, value);
+  }
+
+  /**
+   * Subtract a value from the field's current value
+   * @param value Value to subtract
+   */
+  public static FieldUpdate minus(Object value) {
+    return apply(FieldOperation.MINUS, value);
+  }
+}
@@ -0,0 +1,42 @@
+package me.blvckbytes.bblibpersistence.query;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import me.blvckbytes.bblibpersistence.models.APersistentModel;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/17/2026
+
+  A page of models which has been fetched by seeking, carrying the opaque
+  tokens to continue with in either direction.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@Getter
+@AllArgsConstructor
+public class Page<T extends APersistentModel> {
+
+  // Models of this page, in the query's order
+  private final List<T> items;
+
+  // Token to pass to QueryBuilder#after for the next page, null if there is none
+  private final @Nullable String nextToken;
+
+  // Token to pass to QueryBuilder#before for the previous page, null if there is none
+  private final @Nullable String previousToken;
+}
@@ -40,6 +40,12 @@ public class QueryBuilder<T extends APersistentModel> {
   private Integer limit = null;
   private Integer skip = null;
 
+  // Position to seek from instead of skipping results, either a model or a continuation token
+  private @Nullable Object seekAnchor = null;
+
+  // Whether to seek the results before the anchor instead of after it
+  private boolean seekBackwards = false;
+
   /**
    * Create a new query, starting of with an initial field query
    * @param field Name of the field
@@ -170,6 +176,40 @@ public class QueryBuilder<T extends APersistentModel> {
     return this;
   }
 
+  /**
+   * Only yield results which are sorted after a given model, using the current
+   * sorting plus the id as a tiebreaker, which stays fast for deep pages
+   * @param model Model to seek after, which has to be persisted already
+   */
+  public QueryBuilder<T> after(T model) {
+    return seek(model, false);
+  }
+
+  /**
+   * Only yield results which are sorted after the row a continuation token points at
+   * @param token Token, as handed out by a previous page
+   */
+  public QueryBuilder<T> after(String token) {
+    return seek(token, false);
+  }
+
+  /**
+   * Only yield results which are sorted before a given model, using the current
+   * sorting plus the id as a tiebreaker, which stays fast for deep pages
+   * @param model Model to seek before, which has to be persisted already
+   */
+  public QueryBuilder<T> before(T model) {
+    return seek(model, true);
+  }
+
+  /**
+   * Only yield results which are sorted before the row a continuation token points at
+   * @param token Token, as handed out by a previous page
+   */
+  public QueryBuilder<T> before(String token) {
+    return seek(token, true);
+  }
+
   /**
    * Order the results by a specific field
    * @param field Field to order by
@@ -180,6 +220,20 @@ public class QueryBuilder<T extends APersistentModel> {
     return this;
   }
 
+  /**
+   * Set the anchor to seek from
+   * @param anchor Model or continuation token
+   * @param backwards Whether to seek before the anchor instead of after it
+   */
+  private QueryBuilder<T> seek(Object anchor, boolean backwards) {
+    if (anchor instanceof APersistentModel && ((APersistentModel) anchor).getId() == null)
+      throw new IllegalArgumentException("Cannot seek from a model which has not been persisted yet");
+
+    this.seekAnchor = anchor;
+    this.seekBackwards = backwards;
+    return this;
+  }
+
   /**
    * Add another field query group to the list of additional groups or
    * use it as root, if root is still null
@@ -1,6 +1,7 @@
 package me.blvckbytes.bblibpersistence.transformers;
 
 import me.blvckbytes.bblibpersistence.models.APersistentModel;
+import org.jetbrains.annotations.Nullable;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
@@ -38,6 +39,28 @@ public interface IDataTransformer<Known extends APersistentModel, Foreign> {
    */
   Known replace(Foreign data);
 
+  /**
+   * Take a snapshot of a foreign object which is cheaper to take and to compare than
+   * a call to {@link #replace}, used to skip replacing unchanged objects on writes.
+   * Transformers which don't override this are always replaced and compared by
+   * their known representation instead.
+   * @param data Foreign data as it has been read or is about to be written, never null
+   * @return Snapshot to later compare against, null if snapshots are not supported
+   */
+  default @Nullable Object snapshot(Foreign data) {
+    return null;
+  }
+
+  /**
+   * Check whether a foreign object is still equal to a previously taken snapshot
+   * @param data Foreign data which is about to be written, never null
+   * @param snapshot Snapshot previously taken by {@link #snapshot}
+   * @return True if the data would replace into the same known representation
+   */
+  default boolean isUnchanged(Foreign data, Object snapshot) {
+    return false;
+  }
+
   /**
    * Get the known class (internal model)
    */
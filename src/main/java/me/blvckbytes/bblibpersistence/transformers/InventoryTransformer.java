@@ -13,6 +13,7 @@ import org.yaml.snakeyaml.external.biz.base64Coder.Base64Coder;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.util.Objects;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
@@ -99,6 +100,34 @@ public class InventoryTransformer implements IDataTransformer<InventoryModel, In
     return new InventoryModel(base64);
   }
 
+  @Override
+  public Object snapshot(Inventory data) {
+    // Slots may hand out live views of their items, so each of them has to be copied
+    ItemStack[] res = new ItemStack[data.getSize()];
+
+    for (int i = 0; i < res.length; i++) {
+      ItemStack item = data.getItem(i);
+      res[i] = item == null ? null : item.clone();
+    }
+
+    return res;
+  }
+
+  @Override
+  public boolean isUnchanged(Inventory data, Object snapshot) {
+    ItemStack[] items = (ItemStack[]) snapshot;
+
+    if (data.getSize() != items.length)
+      return false;
+
+    for (int i = 0; i < items.length; i++) {
+      if (!Objects.equals(data.getItem(i), items[i]))
+        return false;
+    }
+
+    return true;
+  }
+
   @Override
   public Class<InventoryModel> getKnownClass() {
     return InventoryModel.class;
@@ -11,6 +11,7 @@ import org.yaml.snakeyaml.external.biz.base64Coder.Base64Coder;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.util.Objects;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
@@ -96,6 +97,32 @@ public class ItemStackArrayTransformer implements IDataTransformer<ItemStackArra
     return new ItemStackArrayModel(base64);
   }
 
+  @Override
+  public Object snapshot(ItemStack[] data) {
+    // Both the array and it's items are mutable, so the snapshot has to be a deep copy
+    ItemStack[] res = new ItemStack[data.length];
+
+    for (int i = 0; i < data.length; i++)
+      res[i] = data[i] == null ? null : data[i].clone();
+
+    return res;
+  }
+
+  @Override
+  public boolean isUnchanged(ItemStack[] data, Object snapshot) {
+    ItemStack[] items = (ItemStack[]) snapshot;
+
+    if (data.length != items.length)
+      return false;
+
+    for (int i = 0; i < data.length; i++) {
+      if (!Objects.equals(data[i], items[i]))
+        return false;
+    }
+
+    return true;
+  }
+
   @Override
   public Class<ItemStackArrayModel> getKnownClass() {
     return ItemStackArrayModel.class;
@@ -85,6 +85,17 @@ public class ItemStackTransformer implements IDataTransformer<ItemStackModel, It
     return new ItemStackModel(base64);
   }
 
+  @Override
+  public Object snapshot(ItemStack data) {
+    // Items are mutable, so the snapshot has to be a copy
+    return data.clone();
+  }
+
+  @Override
+  public boolean isUnchanged(ItemStack data, Object snapshot) {
+    return data.equals(snapshot);
+  }
+
   @Override
   public Class<ItemStackModel> getKnownClass() {
     return ItemStackModel.class;
@@ -0,0 +1,135 @@
+package me.blvckbytes.bblibpersistence.mysql;
+
+import me.blvckbytes.bblibdi.IAutoConstructer;
+import me.blvckbytes.bblibpersistence.models.APersistentModel;
+import me.blvckbytes.bblibutil.logger.ILogger;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/17/2026
+
+  Shared plumbing of the benchmark harnesses, which construct a persistence
+  instance outside of a running server. Only depends on members which predate
+  the optimizations being measured, so that the harnesses can be copied onto
+  an older revision in order to take the "before" numbers.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+final class BenchmarkSupport {
+
+  private BenchmarkSupport() {}
+
+  /**
+   * Create a logger which prints infos and errors to the console and drops debug output,
+   * as every statement is logged at the debug level
+   */
+  static ILogger logger() {
+    return proxy(ILogger.class, (method, args) -> {
+      if (method.getName().equals("logDebug") || args == null)
+        return null;
+
+      for (Object arg : args) {
+        if (arg instanceof Throwable)
+          ((Throwable) arg).printStackTrace();
+        else
+          System.out.println("[" + method.getName() + "] " + arg);
+      }
+
+      return null;
+    });
+  }
+
+  /**
+   * Create an auto constructer which only knows about the provided classes and instances
+   * @param classes Classes to report, which is where models are picked up from
+   * @param instances Instances to report, which is where transformers are picked up from
+   */
+  static IAutoConstructer autoConstructer(List<Class<?>> classes, List<Object> instances) {
+    return proxy(IAutoConstructer.class, (method, args) -> {
+      switch (method.getName()) {
+        case "getClasses":
+          return collectionOf(method.getReturnType(), classes);
+        case "getAllInstances":
+          return collectionOf(method.getReturnType(), instances);
+        default:
+          throw new UnsupportedOperationException(method.getName() + " is not available within benchmarks");
+      }
+    });
+  }
+
+  /**
+   * Get the parsed table of a model from a persistence instance
+   * @param persistence Persistence to get the table from
+   * @param model Model to get the table of
+   */
+  static MysqlTable tableOf(MysqlPersistence persistence, Class<? extends APersistentModel> model) throws Exception {
+    Method getter = MysqlPersistence.class.getDeclaredMethod("getTableFromModel", Class.class, boolean.class);
+    getter.setAccessible(true);
+    return (MysqlTable) getter.invoke(persistence, model, true);
+  }
+
+  /**
+   * Print a single measured round
+   * @param label Label of the round
+   * @param rows Number of rows processed within the round
+   * @param nanos Duration of the round in nanoseconds
+   */
+  static void report(String label, long rows, long nanos) {
+    System.out.printf("%-32s %,14.0f rows/s (%,d rows in %,d ms)%n", label, rows * 1e9 / nanos, rows, nanos / 1_000_000);
+  }
+
+  /**
+   * Create a proxy of an interface which answers all object methods by identity
+   * @param type Interface to implement
+   * @param handler Handler of the interface's own methods
+   */
+  static <T> T proxy(Class<T> type, Handler handler) {
+    return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+      switch (method.getName()) {
+        case "toString":
+          return type.getSimpleName();
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        case "equals":
+          return proxy == args[0];
+        default:
+          return handler.handle(method, args);
+      }
+    }));
+  }
+
+  /**
+   * Wrap items into a collection which is assignable to the requested type
+   * @param type Type the collection has to be assignable to
+   * @param items Items of the collection
+   */
+  private static Collection<?> collectionOf(Class<?> type, List<?> items) {
+    if (type.isAssignableFrom(ArrayList.class))
+      return new ArrayList<>(items);
+
+    if (type.isAssignableFrom(LinkedHashSet.class))
+      return new LinkedHashSet<>(items);
+
+    throw new UnsupportedOperationException("Cannot provide a collection of type " + type.getName());
+  }
+
+  @FunctionalInterface
+  interface Handler {
+    Object handle(Method method, Object[] args) throws Throwable;
+  }
+}
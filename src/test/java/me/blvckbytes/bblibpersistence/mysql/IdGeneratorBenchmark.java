@@ -0,0 +1,224 @@
+package me.blvckbytes.bblibpersistence.mysql;
+
+import me.blvckbytes.bblibpersistence.IIdGenerator;
+import me.blvckbytes.bblibpersistence.ModelProperty;
+import me.blvckbytes.bblibpersistence.RandomIdGenerator;
+import me.blvckbytes.bblibpersistence.TimeOrderedIdGenerator;
+import me.blvckbytes.bblibpersistence.models.APersistentModel;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/17/2026
+
+  Measures the insert throughput into an empty table for random as well as for
+  time-ordered ids, followed by the size of the table's clustered index. Random
+  keys scatter inserts across the whole primary key B-tree, which splits pages
+  half-way and leaves them partially filled, while time-ordered keys append.
+  Generators are run alternately for the requested number of rounds, each
+  round starting out on a truncated table.
+
+  Requires a live server, which is taken from the environment:
+    BENCH_JDBC_URL       jdbc:mysql://<host>[:<port>]/<database>
+    BENCH_JDBC_USER      Username to authenticate with
+    BENCH_JDBC_PASSWORD  Password to authenticate with, empty if absent
+
+  Run with:
+    mvn test-compile exec:java -Dexec.classpathScope=test \
+      -Dexec.mainClass=me.blvckbytes.bblibpersistence.mysql.IdGeneratorBenchmark [-Dexec.args="<rows> <batch size> <rounds>"]
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class IdGeneratorBenchmark {
+
+  public static void main(String[] args) throws Exception {
+    int rows = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+    int batchSize = args.length > 1 ? Integer.parseInt(args[1]) : 1_000;
+    int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+
+    String url = System.getenv("BENCH_JDBC_URL");
+    String username = System.getenv("BENCH_JDBC_USER");
+    String password = System.getenv("BENCH_JDBC_PASSWORD");
+
+    if (url == null || username == null) {
+      System.err.println("Please provide the server by BENCH_JDBC_URL, BENCH_JDBC_USER and BENCH_JDBC_PASSWORD");
+      System.exit(1);
+    }
+
+    Credentials credentials = new Credentials(url, username, password == null ? "" : password);
+    System.out.println("Inserting " + rows + " rows in batches of " + batchSize + ", " + rounds + " rounds per generator");
+
+    for (int round = 1; round <= rounds; round++) {
+      for (IIdGenerator generator : List.of(new RandomIdGenerator(), new TimeOrderedIdGenerator())) {
+        credentials.idGenerator = generator;
+        run(credentials, generator.getClass().getSimpleName() + " (round " + round + ")", rows, batchSize);
+      }
+    }
+  }
+
+  /**
+   * Insert the requested number of rows into a truncated table and report the throughput
+   * @param credentials Credentials, carrying the generator to use
+   * @param label Label of the run
+   * @param rows Number of rows to insert
+   * @param batchSize Number of rows to store at once
+   */
+  private static void run(Credentials credentials, String label, int rows, int batchSize) throws Exception {
+    MysqlPersistence persistence = new MysqlPersistence(
+      BenchmarkSupport.logger(),
+      null,
+      BenchmarkSupport.autoConstructer(List.of(InsertModel.class), List.of()),
+      credentials
+    );
+
+    try (
+      Connection conn = DriverManager.getConnection(credentials.getUrl(), credentials.getUsername(), credentials.getPassword());
+      Statement stmt = conn.createStatement()
+    ) {
+      String tableName = BenchmarkSupport.tableOf(persistence, InsertModel.class).getName();
+      stmt.execute("TRUNCATE TABLE `" + tableName + "`");
+
+      long start = System.nanoTime();
+
+      for (int offset = 0; offset < rows; offset += batchSize) {
+        List<InsertModel> batch = new ArrayList<>();
+
+        for (int i = offset; i < Math.min(rows, offset + batchSize); i++)
+          batch.add(new InsertModel("player-" + i, i, i * 0.5));
+
+        persistence.store(batch);
+      }
+
+      BenchmarkSupport.report(label, rows, System.nanoTime() - start);
+      reportTableSize(conn, stmt, credentials.getDatabase(), tableName);
+    } finally {
+      persistence.cleanup();
+    }
+  }
+
+  /**
+   * Report the size of a table's clustered index, which grows with the number
+   * of partially filled pages that page splits leave behind
+   * @param conn Connection to query on
+   * @param stmt Statement to update the table's statistics with
+   * @param database Database of the table
+   * @param tableName Name of the table
+   */
+  private static void reportTableSize(Connection conn, Statement stmt, String database, String tableName) throws Exception {
+    stmt.execute("ANALYZE TABLE `" + tableName + "`");
+
+    try (
+      PreparedStatement ps = conn.prepareStatement("SELECT `data_length` FROM `information_schema`.`TABLES` WHERE `table_schema` = ? AND `table_name` = ?")
+    ) {
+      ps.setString(1, database);
+      ps.setString(2, tableName);
+
+      try (ResultSet rs = ps.executeQuery()) {
+        if (rs.next())
+          System.out.printf("%-32s %,14d KiB clustered index%n", "", rs.getLong(1) / 1024);
+      }
+    }
+  }
+
+  private static class Credentials implements IMysqlCredentialSupplier {
+
+    private final String host, database, username, password;
+    private final int port;
+    private IIdGenerator idGenerator;
+
+    public Credentials(String url, String username, String password) {
+      String prefix = "jdbc:mysql://";
+
+      if (!url.startsWith(prefix) || url.indexOf('/', prefix.length()) < 0)
+        throw new IllegalArgumentException("Expected a URL of the form jdbc:mysql://<host>[:<port>]/<database>, got " + url);
+
+      String authority = url.substring(prefix.length(), url.indexOf('/', prefix.length()));
+      String database = url.substring(url.indexOf('/', prefix.length()) + 1);
+
+      if (database.indexOf('?') >= 0)
+        database = database.substring(0, database.indexOf('?'));
+
+      int colon = authority.indexOf(':');
+      this.host = colon < 0 ? authority : authority.substring(0, colon);
+      this.port = colon < 0 ? 3306 : Integer.parseInt(authority.substring(colon + 1));
+      this.database = database;
+      this.username = username;
+      this.password = password;
+    }
+
+    /**
+     * Get the URL of the database, as used by the benchmark's own connection
+     */
+    public String getUrl() {
+      return "jdbc:mysql://" + host + ":" + port + "/" + database;
+    }
+
+    @Override
+    public String getUsername() {
+      return username;
+    }
+
+    @Override
+    public String getPassword() {
+      return password;
+    }
+
+    @Override
+    public String getHost() {
+      return host;
+    }
+
+    @Override
+    public int getPort() {
+      return port;
+    }
+
+    @Override
+    public String getDatabase() {
+      return database;
+    }
+
+    @Override
+    public IIdGenerator getIdGenerator() {
+      return idGenerator;
+    }
+  }
+
+  public static class InsertModel extends APersistentModel {
+
+    @ModelProperty
+    private String name;
+
+    @ModelProperty
+    private Integer counter;
+
+    @ModelProperty
+    private Double balance;
+
+    private InsertModel() {}
+
+    public InsertModel(String name, Integer counter, Double balance) {
+      this.name = name;
+      this.counter = counter;
+      this.balance = balance;
+    }
+  }
+}
@@ -0,0 +1,365 @@
+package me.blvckbytes.bblibpersistence.mysql;
+
+import me.blvckbytes.bblibpersistence.ModelProperty;
+import me.blvckbytes.bblibpersistence.models.APersistentModel;
+import me.blvckbytes.bblibpersistence.transformers.IDataTransformer;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.logging.Logger;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/17/2026
+
+  Measures how many rows per second are materialized into models by mapping a
+  single row over and over again. The row is served by an in-memory ResultSet and
+  the persistence is backed by a driver which answers every statement with an
+  empty result, so no database is involved and only the mapping layer is measured.
+  The sample model carries plain columns as well as several transformed fields.
+
+  Run with:
+    mvn test-compile exec:java -Dexec.classpathScope=test \
+      -Dexec.mainClass=me.blvckbytes.bblibpersistence.mysql.MapRowBenchmark [-Dexec.args="<rows per round> <rounds>"]
+
+  To take the "before" numbers, check out an older revision into a worktree, copy this
+  file and BenchmarkSupport over and run the same command there. The mapping method is
+  looked up by it's name, so differing parameter lists are bound automatically.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class MapRowBenchmark {
+
+  // Keeps the mapped models reachable, so the mapping cannot be optimized away
+  private static volatile Object sink;
+
+  public static void main(String[] args) throws Exception {
+    int rowsPerRound = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+    int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+    installNullDriver();
+
+    MysqlPersistence persistence = new MysqlPersistence(
+      BenchmarkSupport.logger(),
+      null,
+      BenchmarkSupport.autoConstructer(List.of(SampleModel.class), List.of(new VectorTransformer())),
+      new Credentials()
+    );
+
+    try {
+      MysqlTable table = BenchmarkSupport.tableOf(persistence, SampleModel.class);
+      ResultSet rs = rowOf(table);
+
+      Method mapRow = Arrays.stream(MysqlPersistence.class.getDeclaredMethods())
+        .filter(m -> m.getName().equals("mapRow"))
+        .findFirst()
+        .orElseThrow(() -> new IllegalStateException("There is no mapRow method to benchmark"));
+
+      mapRow.setAccessible(true);
+      Object[] params = paramsOf(mapRow, rs);
+
+      System.out.println("Mapping rows of " + table.getColumns().size() + " columns, " + rounds + " rounds of " + rowsPerRound + " rows");
+
+      // Let the JIT settle on the hot path before measuring
+      for (int i = 0; i < rowsPerRound; i++)
+        sink = mapRow.invoke(persistence, params);
+
+      for (int round = 1; round <= rounds; round++) {
+        long start = System.nanoTime();
+
+        for (int i = 0; i < rowsPerRound; i++)
+          sink = mapRow.invoke(persistence, params);
+
+        BenchmarkSupport.report("round " + round, rowsPerRound, System.nanoTime() - start);
+      }
+    } finally {
+      persistence.cleanup();
+    }
+  }
+
+  /**
+   * Bind the parameters of the mapping method by their types, tracking the read values
+   * just like a regular find does
+   * @param mapRow Mapping method
+   * @param rs ResultSet to map from
+   */
+  private static Object[] paramsOf(Method mapRow, ResultSet rs) {
+    Class<?>[] types = mapRow.getParameterTypes();
+    Object[] params = new Object[types.length];
+
+    for (int i = 0; i < types.length; i++) {
+      if (types[i] == Class.class)
+        params[i] = SampleModel.class;
+      else if (types[i] == ResultSet.class)
+        params[i] = rs;
+      else if (types[i] == boolean.class)
+        params[i] = true;
+      else
+        throw new IllegalStateException("Cannot bind a mapRow parameter of type " + types[i]);
+    }
+
+    return params;
+  }
+
+  /**
+   * Create a ResultSet which is positioned on a single row holding a sample value for
+   * each of the table's columns, accessible by ordinal as well as by label
+   * @param table Table to create the row for
+   */
+  private static ResultSet rowOf(MysqlTable table) {
+    List<MysqlColumn> columns = table.getColumns();
+    Object[] values = new Object[columns.size()];
+    Map<String, Integer> indexByLabel = new HashMap<>();
+
+    for (int i = 0; i < values.length; i++) {
+      values[i] = sampleValue(columns.get(i));
+      indexByLabel.put(columns.get(i).getName(), i);
+    }
+
+    return BenchmarkSupport.proxy(ResultSet.class, (method, args) -> {
+      switch (method.getName()) {
+        case "getObject":
+        case "getBytes":
+          return values[args[0] instanceof String ? indexByLabel.get(args[0]) : (Integer) args[0] - 1];
+        case "wasNull":
+        case "next":
+          return false;
+        case "close":
+          return null;
+        default:
+          throw new UnsupportedOperationException(method.getName() + " is not supported by the sample row");
+      }
+    });
+  }
+
+  /**
+   * Create a value for a column, as the driver would hand it out
+   * @param column Column to create the value for
+   */
+  private static Object sampleValue(MysqlColumn column) {
+    Field field = column.getKnownModelField() != null ? column.getKnownModelField() : column.getModelField();
+    Class<?> type = field.getType();
+
+    if (type == UUID.class) {
+      UUID id = UUID.randomUUID();
+      return ByteBuffer.allocate(16).putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits()).array();
+    }
+
+    if (type == String.class)
+      return "benchmark";
+
+    if (type == Integer.class)
+      return 42;
+
+    if (type == Long.class)
+      return 42L;
+
+    if (type == Double.class)
+      return 0.5;
+
+    if (type == Boolean.class)
+      return true;
+
+    if (type == java.util.Date.class)
+      return LocalDateTime.now();
+
+    throw new IllegalStateException("No sample value for the column " + column.getName() + " of type " + type);
+  }
+
+  /**
+   * Replace all registered drivers by one which serves connections that
+   * answer every statement with an empty result
+   */
+  private static void installNullDriver() throws SQLException {
+    for (Driver driver : Collections.list(DriverManager.getDrivers()))
+      DriverManager.deregisterDriver(driver);
+
+    DriverManager.registerDriver(new NullDriver());
+  }
+
+  /**
+   * Create an object which implements a JDBC interface by returning empty values
+   * @param type JDBC interface to implement
+   */
+  private static <T> T nullObject(Class<T> type) {
+    return BenchmarkSupport.proxy(type, (method, args) -> {
+      switch (method.getName()) {
+        case "isValid":
+        case "getAutoCommit":
+          return true;
+        default:
+          break;
+      }
+
+      Class<?> result = method.getReturnType();
+
+      // Default value of primitives, such as false, 0 or 0L
+      if (result.isPrimitive())
+        return result == void.class ? null : Array.get(Array.newInstance(result, 1), 0);
+
+      if (result.isArray())
+        return Array.newInstance(result.getComponentType(), 0);
+
+      if (result.isInterface() && result.getName().startsWith("java.sql."))
+        return nullObject(result);
+
+      return null;
+    });
+  }
+
+  private static class NullDriver implements Driver {
+
+    @Override
+    public Connection connect(String url, Properties info) {
+      return nullObject(Connection.class);
+    }
+
+    @Override
+    public boolean acceptsURL(String url) {
+      return true;
+    }
+
+    @Override
+    public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+      return new DriverPropertyInfo[0];
+    }
+
+    @Override
+    public int getMajorVersion() {
+      return 1;
+    }
+
+    @Override
+    public int getMinorVersion() {
+      return 0;
+    }
+
+    @Override
+    public boolean jdbcCompliant() {
+      return false;
+    }
+
+    @Override
+    public Logger getParentLogger() {
+      return Logger.getGlobal();
+    }
+  }
+
+  private static class Credentials implements IMysqlCredentialSupplier {
+
+    @Override
+    public String getUsername() {
+      return "benchmark";
+    }
+
+    @Override
+    public String getPassword() {
+      return "benchmark";
+    }
+
+    @Override
+    public String getHost() {
+      return "localhost";
+    }
+
+    @Override
+    public int getPort() {
+      return 3306;
+    }
+
+    @Override
+    public String getDatabase() {
+      return "benchmark";
+    }
+  }
+
+  public static class Vector {
+
+    private final double x, y, z;
+
+    public Vector(double x, double y, double z) {
+      this.x = x;
+      this.y = y;
+      this.z = z;
+    }
+  }
+
+  public static class VectorModel extends APersistentModel {
+
+    @ModelProperty
+    private Double x, y, z;
+
+    private VectorModel() {}
+
+    public VectorModel(Double x, Double y, Double z) {
+      this.x = x;
+      this.y = y;
+      this.z = z;
+    }
+  }
+
+  public static class VectorTransformer implements IDataTransformer<VectorModel, Vector> {
+
+    @Override
+    public Vector revive(VectorModel data) {
+      return new Vector(data.x, data.y, data.z);
+    }
+
+    @Override
+    public VectorModel replace(Vector data) {
+      if (data == null)
+        return null;
+
+      return new VectorModel(data.x, data.y, data.z);
+    }
+
+    @Override
+    public Class<VectorModel> getKnownClass() {
+      return VectorModel.class;
+    }
+
+    @Override
+    public Class<Vector> getForeignClass() {
+      return Vector.class;
+    }
+  }
+
+  public static class SampleModel extends APersistentModel {
+
+    @ModelProperty
+    private String name;
+
+    @ModelProperty
+    private Integer counter;
+
+    @ModelProperty
+    private Long balance;
+
+    @ModelProperty
+    private Boolean active;
+
+    @ModelProperty(isNullable = true)
+    private java.util.Date lastSeen;
+
+    @ModelProperty
+    private Vector home, spawn, velocity;
+
+    private SampleModel() {}
+  }
+}